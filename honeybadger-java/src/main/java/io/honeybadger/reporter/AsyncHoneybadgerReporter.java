@@ -0,0 +1,424 @@
+package io.honeybadger.reporter;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.FrozenConfigContext;
+import io.honeybadger.reporter.config.SystemSettingsConfigContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link NoticeReporter} implementation that hands errors off to a pool of
+ * background sender threads instead of contacting the Honeybadger API on the
+ * calling thread. Pending notices are held in a bounded queue. When the queue
+ * is full, new errors are dropped rather than blocking the caller.
+ *
+ * <p>Request objects are converted into request DTOs on the calling thread
+ * and the calling thread's MDC is captured, so that the notice contains the
+ * same information as it would if it was reported synchronously.</p>
+ *
+ * <p>Sender threads only make the first attempt to deliver each notice.
+ * Retries are scheduled by the delegate's {@link
+ * io.honeybadger.reporter.transport.RetryScheduler}, so a failing API doesn't
+ * stall the queue.</p>
+ *
+ * @since 2.0.1
+ */
+public class AsyncHoneybadgerReporter implements NoticeReporter, AutoCloseable {
+    /** How long sender threads wait for work before checking for shutdown. */
+    private static final long POLL_INTERVAL_MILLIS = 250L;
+    /** How long {@link #close()} waits for each sender thread to drain the queue. */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    private static final AtomicInteger REPORTER_COUNT = new AtomicInteger();
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final HoneybadgerReporter delegate;
+    private final int queueCapacity;
+    private final ConcurrentLinkedQueue<PendingNotice> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final Semaphore pending = new Semaphore(0);
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread[] senders;
+
+    private volatile boolean running = true;
+
+    public AsyncHoneybadgerReporter() {
+        this(new SystemSettingsConfigContext());
+    }
+
+    public AsyncHoneybadgerReporter(final ConfigContext config) {
+        this(new HoneybadgerReporter(config));
+    }
+
+    /**
+     * Creates a new instance that sends notices using the passed reporter.
+     * The queue capacity and number of sender threads are read from the
+     * reporter's configuration.
+     *
+     * @param delegate reporter used to build and send notices
+     */
+    public AsyncHoneybadgerReporter(final HoneybadgerReporter delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate reporter must not be null");
+        }
+
+        final ConfigContext config = delegate.getConfig();
+
+        if (config.getAsyncQueueCapacity() == null || config.getAsyncQueueCapacity() < 1) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.async_queue_capacity " +
+                    "must be an integer greater than 0");
+        }
+        if (config.getAsyncSenderThreads() == null || config.getAsyncSenderThreads() < 1) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.async_sender_threads " +
+                    "must be an integer greater than 0");
+        }
+
+        this.delegate = delegate;
+        this.queueCapacity = config.getAsyncQueueCapacity();
+        this.senders = new Thread[config.getAsyncSenderThreads()];
+
+        final int reporterId = REPORTER_COUNT.incrementAndGet();
+
+        for (int i = 0; i < senders.length; i++) {
+            final Thread sender = new Thread(this::drainQueue,
+                    String.format("honeybadger-sender-%d-%d", reporterId, i));
+            sender.setDaemon(true);
+            sender.start();
+            senders[i] = sender;
+        }
+    }
+
+    /**
+     * Queues an error to be sent to the Honeybadger API. This method never
+     * waits on the network, so the result of the submission is never
+     * available and null is always returned.
+     *
+     * @param error error to report
+     * @return always null, use {@link #reportErrorAsync(Throwable)} to get the result
+     */
+    @Override
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public NoticeReportResult reportError(final Throwable error) {
+        reportErrorAsync(error, null, null, Collections.emptySet());
+        return null;
+    }
+
+    /**
+     * Queues an error to be sent to the Honeybadger API. This method never
+     * waits on the network, so the result of the submission is never
+     * available and null is always returned.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @return always null, use {@link #reportErrorAsync(Throwable, Object)} to get the result
+     */
+    @Override
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public NoticeReportResult reportError(final Throwable error, final Object request) {
+        reportErrorAsync(error, request, null, Collections.emptySet());
+        return null;
+    }
+
+    /**
+     * Queues an error to be sent to the Honeybadger API. This method never
+     * waits on the network, so the result of the submission is never
+     * available and null is always returned.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @param message message to report instead of message associated with exception
+     * @return always null, use {@link #reportErrorAsync(Throwable, Object, String)} to get the result
+     */
+    @Override
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public NoticeReportResult reportError(final Throwable error, final Object request,
+                                          final String message) {
+        reportErrorAsync(error, request, message, Collections.emptySet());
+        return null;
+    }
+
+    /**
+     * Queues an error to be sent to the Honeybadger API. This method never
+     * waits on the network, so the result of the submission is never
+     * available and null is always returned.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values (duplicates will be removed)
+     * @return always null, use {@link #reportErrorAsync(Throwable, Object, String, Iterable)}
+     *         to get the result
+     */
+    @Override
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public NoticeReportResult reportError(final Throwable error, final Object request,
+                                          final String message, final Iterable<String> tags) {
+        reportErrorAsync(error, request, message, tags);
+        return null;
+    }
+
+    /**
+     * Queues an error to be sent to the Honeybadger API.
+     *
+     * @param error error to report
+     * @return future completed with the result of the submission, with null if
+     *         there was a problem, the error was ignored or the queue was full
+     */
+    public NoticeDelivery reportErrorAsync(final Throwable error) {
+        return reportErrorAsync(error, null, null, Collections.emptySet());
+    }
+
+    /**
+     * Queues an error to be sent to the Honeybadger API.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @return future completed with the result of the submission, with null if
+     *         there was a problem, the error was ignored or the queue was full
+     */
+    public NoticeDelivery reportErrorAsync(final Throwable error, final Object request) {
+        return reportErrorAsync(error, request, null, Collections.emptySet());
+    }
+
+    /**
+     * Queues an error to be sent to the Honeybadger API.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @param message message to report instead of message associated with exception
+     * @return future completed with the result of the submission, with null if
+     *         there was a problem, the error was ignored or the queue was full
+     */
+    public NoticeDelivery reportErrorAsync(final Throwable error, final Object request,
+                                           final String message) {
+        return reportErrorAsync(error, request, message, Collections.emptySet());
+    }
+
+    /**
+     * Queues an error to be sent to the Honeybadger API.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values (duplicates will be removed)
+     * @return future completed with the result of the submission, with null if
+     *         there was a problem, the error was ignored or the queue was full
+     */
+    public NoticeDelivery reportErrorAsync(final Throwable error, final Object request,
+                                           final String message, final Iterable<String> tags) {
+        final NoticeDelivery delivery = enqueue(error, request, message, tags, null);
+
+        return delivery == null ? completed(null) : delivery;
+    }
+
+    /**
+     * Queues an error to be sent to the Honeybadger API with an ID chosen by
+     * the caller. The ID is known right away, so it can be shown to users
+     * while the notice is still waiting to be sent. Whether the notice is
+     * eventually delivered isn't reported.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values (duplicates will be removed)
+     * @param token ID of the error
+     * @return true if the error was queued, false if it was ignored, the
+     *         queue was full or the reporter is closed
+     */
+    public boolean reportErrorAsync(final Throwable error, final Object request,
+                                    final String message, final Iterable<String> tags,
+                                    final UUID token) {
+        return enqueue(error, request, message, tags, token) != null;
+    }
+
+    /**
+     * Queues an error unless it isn't admitted or doesn't fit in the queue.
+     *
+     * @return future of the queued notice or null if the error wasn't queued
+     */
+    private NoticeDelivery enqueue(final Throwable error, final Object request,
+                                   final String message, final Iterable<String> tags,
+                                   final UUID token) {
+        if (error == null || !running) {
+            return null;
+        }
+
+        final FrozenConfigContext config = delegate.getConfigSnapshot();
+        final io.honeybadger.reporter.dto.Request requestDto = delegate.parseRequest(config, request);
+        final Set<String> tagSet = delegate.aggregateTags(tags);
+
+        // Errors that won't be sent are filtered out before they take up room in the queue
+        if (!delegate.admitError(config, error, requestDto, message, tagSet)) {
+            return null;
+        }
+
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            droppedCount.increment();
+            logger.debug("Honeybadger notice queue is full. Dropping error: {}", error.toString());
+            return null;
+        }
+
+        final PendingNotice pendingNotice = new PendingNotice(config, error, requestDto, message,
+                tagSet, token, MDC.getCopyOfContextMap());
+
+        queue.offer(pendingNotice);
+        pending.release();
+
+        // close() may have let the senders exit before the notice was queued
+        if (!running && queue.remove(pendingNotice)) {
+            queueSize.decrementAndGet();
+            pendingNotice.result.complete(null);
+            return null;
+        }
+
+        return pendingNotice.result;
+    }
+
+    @Override
+    public ConfigContext getConfig() {
+        return delegate.getConfig();
+    }
+
+    /**
+     * @return number of notices waiting to be sent
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * @return number of notices dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Stops accepting new errors and waits a bounded amount of time for the
+     * sender threads to send the notices that are already queued. Notices
+     * that are still queued afterwards are dropped and their futures are
+     * completed with null. The delegate reporter is closed as well.
+     */
+    @Override
+    public void close() {
+        running = false;
+
+        for (Thread sender : senders) {
+            try {
+                sender.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        PendingNotice leftover;
+        int dropped = 0;
+
+        while ((leftover = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            droppedCount.increment();
+            leftover.result.complete(null);
+            dropped++;
+        }
+
+        if (dropped > 0) {
+            logger.warn("Dropped {} Honeybadger notices that were still queued on shutdown", dropped);
+        }
+
+        delegate.close();
+    }
+
+    private static NoticeDelivery completed(final NoticeReportResult result) {
+        final NoticeDelivery delivery = new NoticeDelivery();
+        delivery.complete(result);
+        return delivery;
+    }
+
+    /**
+     * Main loop of each sender thread. Sender threads keep draining the queue
+     * after {@link #close()} is called until it is empty.
+     */
+    private void drainQueue() {
+        while (running || queueSize.get() > 0) {
+            try {
+                if (!pending.tryAcquire(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            final PendingNotice pendingNotice = queue.poll();
+
+            if (pendingNotice == null) {
+                continue;
+            }
+
+            queueSize.decrementAndGet();
+            send(pendingNotice);
+        }
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void send(final PendingNotice pendingNotice) {
+        if (pendingNotice.mdc != null) {
+            MDC.setContextMap(pendingNotice.mdc);
+        }
+
+        try {
+            delegate.deliverError(pendingNotice.config, pendingNotice.error, pendingNotice.request,
+                    pendingNotice.message, pendingNotice.tags, pendingNotice.token,
+                    pendingNotice.result);
+        } catch (RuntimeException e) {
+            logger.error("An error occurred when sending data to the Honeybadger API", e);
+            pendingNotice.result.completeExceptionally(e);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    /**
+     * An error and the state captured from the reporting thread.
+     */
+    private static final class PendingNotice {
+        private final FrozenConfigContext config;
+        private final Throwable error;
+        private final io.honeybadger.reporter.dto.Request request;
+        private final String message;
+        private final Set<String> tags;
+        private final UUID token;
+        private final Map<String, String> mdc;
+        private final NoticeDelivery result = new NoticeDelivery();
+
+        PendingNotice(final FrozenConfigContext config,
+                      final Throwable error,
+                      final io.honeybadger.reporter.dto.Request request,
+                      final String message,
+                      final Set<String> tags,
+                      final UUID token,
+                      final Map<String, String> mdc) {
+            this.config = config;
+            this.error = error;
+            this.request = request;
+            this.message = message;
+            this.tags = tags;
+            this.token = token;
+            this.mdc = mdc;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.honeybadger.reporter;
+
+import io.honeybadger.reporter.transport.ResponseClassification;
+
+/**
+ * Outcome of a single attempt to send a notice to the Honeybadger API.
+ *
+ * @since 2.0.1
+ */
+public class DeliveryAttempt {
+    private final int number;
+    private final Integer statusCode;
+    private final ResponseClassification classification;
+    private final Throwable failure;
+    private final boolean delivered;
+    private final long retryDelayMillis;
+
+    /**
+     * @param number one-based number of the attempt
+     * @param statusCode HTTP status returned by the API or null if there was no response
+     * @param classification classification of the response or null if there was no response
+     * @param failure exception thrown while sending or null if there was none
+     * @param delivered true if the API accepted the notice
+     * @param retryDelayMillis delay before the next attempt or -1 if there won't be one
+     */
+    public DeliveryAttempt(final int number, final Integer statusCode,
+                           final ResponseClassification classification, final Throwable failure,
+                           final boolean delivered, final long retryDelayMillis) {
+        this.number = number;
+        this.statusCode = statusCode;
+        this.classification = classification;
+        this.failure = failure;
+        this.delivered = delivered;
+        this.retryDelayMillis = retryDelayMillis;
+    }
+
+    /**
+     * @return one-based number of the attempt
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * @return HTTP status returned by the API or null if there was no response
+     */
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return classification of the response or null if there was no response
+     */
+    public ResponseClassification getClassification() {
+        return classification;
+    }
+
+    /**
+     * @return exception thrown while sending or null if there was none
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return true if the API accepted the notice
+     */
+    public boolean isDelivered() {
+        return delivered;
+    }
+
+    /**
+     * @return delay in milliseconds before the next attempt or -1 if there won't be one
+     */
+    public long getRetryDelayMillis() {
+        return retryDelayMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "DeliveryAttempt{" +
+                "number=" + number +
+                ", statusCode=" + statusCode +
+                ", classification=" + classification +
+                ", failure=" + failure +
+                ", delivered=" + delivered +
+                ", retryDelayMillis=" + retryDelayMillis +
+                '}';
+    }
+}
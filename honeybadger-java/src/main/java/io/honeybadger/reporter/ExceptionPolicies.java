@@ -0,0 +1,113 @@
+package io.honeybadger.reporter;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Policies for the exception classes reported with one set of excluded
+ * classes. Each class's policy is worked out the first time an error of that
+ * class is reported and is kept in a {@link ClassValue}, so later lookups
+ * don't walk the class hierarchy again.
+ *
+ * @since 2.0.1
+ */
+final class ExceptionPolicies {
+    private static final Set<Class<?>> EXCEPTION_CONTEXT_CLASSES = findExceptionContextClasses();
+
+    private final Set<String> excludedClasses;
+    private final ClassValue<ExceptionPolicy> policies = new ClassValue<ExceptionPolicy>() {
+        @Override
+        protected ExceptionPolicy computeValue(final Class<?> type) {
+            return new ExceptionPolicy(isExcluded(type), hasContextedVariables(type));
+        }
+    };
+
+    /**
+     * @param excludedClasses names of the classes whose errors, and errors of
+     *                        their subclasses, are never reported, or null
+     */
+    ExceptionPolicies(final Set<String> excludedClasses) {
+        this.excludedClasses = excludedClasses;
+    }
+
+    /**
+     * @param type exception class
+     * @return policy for the class
+     */
+    ExceptionPolicy forClass(final Class<?> type) {
+        return policies.get(type);
+    }
+
+    /**
+     * @param otherExcludedClasses excluded classes currently configured
+     * @return true if these policies were worked out for the same set instance
+     */
+    @SuppressWarnings("ReferenceEquality")
+    boolean isFor(final Set<String> otherExcludedClasses) {
+        // Configuration snapshots return the same set until they are replaced
+        return excludedClasses == otherExcludedClasses;
+    }
+
+    private boolean isExcluded(final Class<?> type) {
+        if (excludedClasses == null || excludedClasses.isEmpty()) {
+            return false;
+        }
+
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            if (excludedClasses.contains(c.getName()) || hasExcludedInterface(c)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean hasExcludedInterface(final Class<?> type) {
+        for (Class<?> implemented : type.getInterfaces()) {
+            if (excludedClasses.contains(implemented.getName()) || hasExcludedInterface(implemented)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Tests to see if a given exception class has embedded context variables
+     * like {@link org.apache.commons.lang3.exception.ContextedException}.
+     *
+     * @param type class to check
+     * @return true if a contexted exception, otherwise false
+     */
+    private static boolean hasContextedVariables(final Class<?> type) {
+        for (Class<?> exceptionClass : EXCEPTION_CONTEXT_CLASSES) {
+            if (exceptionClass.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return The Apache Commons Lang3 exception context class or null if not found
+     */
+    @SuppressWarnings("LiteralClassName")
+    private static Set<Class<?>> findExceptionContextClasses() {
+        final String[] classNames = new String[] {
+                "org.apache.commons.lang3.exception.ExceptionContext"
+        };
+
+        final Set<Class<?>> classes = new LinkedHashSet<>(classNames.length);
+
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className));
+            } catch (ClassNotFoundException ignored) {
+            }
+        }
+
+        return Collections.unmodifiableSet(classes);
+    }
+}
@@ -0,0 +1,97 @@
+package io.honeybadger.reporter;
+
+import io.honeybadger.reporter.aggregation.ErrorFingerprint;
+import io.honeybadger.reporter.dto.ApplicationPackages;
+
+/**
+ * How errors of one exception class are reported. Policies are worked out
+ * once per class from the class hierarchy and cached, so deciding how to
+ * report an error doesn't involve reflection.
+ *
+ * @since 2.0.1
+ */
+public final class ExceptionPolicy {
+    /**
+     * How the message of an error is used in its fingerprint.
+     */
+    public enum FingerprintStrategy {
+        /** The whole message is part of the fingerprint. */
+        MESSAGE,
+        /**
+         * Only the message before the context that commons-lang appends is
+         * part of the fingerprint, because the context values usually differ
+         * between occurrences of the same problem.
+         */
+        MESSAGE_WITHOUT_CONTEXT
+    }
+
+    private final boolean excluded;
+    private final boolean contexted;
+
+    ExceptionPolicy(final boolean excluded, final boolean contexted) {
+        this.excluded = excluded;
+        this.contexted = contexted;
+    }
+
+    /**
+     * @return true if the class, one of its superclasses or one of its
+     *         interfaces has been configured to never be reported
+     */
+    public boolean isExcluded() {
+        return excluded;
+    }
+
+    /**
+     * @return true if the class carries commons-lang exception context values
+     */
+    public boolean hasContextedVariables() {
+        return contexted;
+    }
+
+    /**
+     * @return how the message of errors of the class is fingerprinted
+     */
+    public FingerprintStrategy getFingerprintStrategy() {
+        return contexted ? FingerprintStrategy.MESSAGE_WITHOUT_CONTEXT : FingerprintStrategy.MESSAGE;
+    }
+
+    /**
+     * @param error error of the class this policy is for
+     * @return the error's message without any context appended by commons-lang
+     */
+    public String message(final Throwable error) {
+        final String msg = error.getMessage();
+
+        if (!contexted || msg == null) {
+            return msg;
+        }
+
+        final int contextSeparatorPos = msg.indexOf("Exception Context:");
+
+        if (contextSeparatorPos == -1) {
+            return msg;
+        }
+
+        return msg.substring(0, contextSeparatorPos).trim();
+    }
+
+    /**
+     * @param error error of the class this policy is for
+     * @param applicationPackages classifier of application frames
+     * @return fingerprint of the error
+     */
+    public String fingerprint(final Throwable error, final ApplicationPackages applicationPackages) {
+        final String msg = getFingerprintStrategy() == FingerprintStrategy.MESSAGE_WITHOUT_CONTEXT ?
+                message(error) : error.getMessage();
+
+        return ErrorFingerprint.of(error, msg, applicationPackages);
+    }
+
+    @Override
+    public String toString() {
+        return "ExceptionPolicy{" +
+                "excluded=" + excluded +
+                ", contexted=" + contexted +
+                '}';
+    }
+}
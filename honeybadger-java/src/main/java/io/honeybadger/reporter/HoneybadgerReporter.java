@@ -1,36 +1,54 @@
 package io.honeybadger.reporter;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.honeybadger.reporter.aggregation.ErrorAggregator;
 import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.FrozenConfigContext;
+import io.honeybadger.reporter.config.ReloadableConfigContext;
 import io.honeybadger.reporter.config.SystemSettingsConfigContext;
-import io.honeybadger.reporter.dto.HttpServletRequestFactory;
+import io.honeybadger.reporter.dto.ApplicationPackages;
 import io.honeybadger.reporter.dto.Notice;
 import io.honeybadger.reporter.dto.NoticeDetails;
-import io.honeybadger.reporter.dto.PlayHttpRequestFactory;
-import org.apache.http.HttpHost;
+import io.honeybadger.reporter.dto.ProcessIdentity;
+import io.honeybadger.reporter.ratelimit.ErrorRateLimiter;
+import io.honeybadger.reporter.spool.NoticeSpool;
+import io.honeybadger.reporter.spool.SpoolSender;
+import io.honeybadger.reporter.transport.NoticeBuffer;
+import io.honeybadger.reporter.transport.NoticeTransport;
+import io.honeybadger.reporter.transport.ResponseClassification;
+import io.honeybadger.reporter.transport.ResponseClassifier;
+import io.honeybadger.reporter.transport.RetryScheduler;
+import io.honeybadger.reporter.transport.ThrottlePolicy;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
-import org.apache.http.HttpStatus;
-import org.apache.http.HttpVersion;
-import org.apache.http.client.fluent.Request;
-import org.apache.http.client.fluent.Response;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Reporter utility class that gives a simple interface for sending Java
@@ -40,10 +58,25 @@ import java.util.UUID;
  * @author <a href="https://github.com/dekobon">Elijah Zupancic</a>
  * @since 1.0.0
  */
-public class HoneybadgerReporter implements NoticeReporter {
-    private static Set<Class<?>> exceptionContextClasses = findExceptionContextClasses();
-
+public class HoneybadgerReporter implements NoticeReporter, AutoCloseable {
     private ConfigContext config;
+    private volatile FrozenConfigContext frozenConfig;
+    private volatile NoticeTransport transport;
+    /** Guards swapping and releasing the transport. */
+    private final Object transportLock = new Object();
+    /** Guarded by transportLock. */
+    private boolean transportReleased;
+    /** One for the open reporter plus one per delivery under way. */
+    private final AtomicInteger transportUsers = new AtomicInteger(1);
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private NoticeSpool spool;
+    private final SpoolSender spoolSender = this::deliverSpooledNotice;
+    private final Consumer<ConfigContext> configValidator = HoneybadgerReporter::validateConfig;
+    private ErrorAggregator<Occurrence> aggregator;
+    private volatile ErrorRateLimiter rateLimiter;
+    private volatile ExceptionPolicies exceptionPolicies;
+    private final AtomicReference<ConfigContext> appliedConfig = new AtomicReference<>();
+    private volatile RetryScheduler retryScheduler;
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
             .setSerializationInclusion(JsonInclude.Include.NON_NULL);
@@ -52,9 +85,49 @@ public class HoneybadgerReporter implements NoticeReporter {
         this(new SystemSettingsConfigContext());
     }
 
-    public HoneybadgerReporter(final ConfigContext config) {
-        this.setConfig(config);
+    public HoneybadgerReporter(final ConfigContext configContext) {
+        final ConfigContext config;
+
+        if (configContext instanceof ReloadableConfigContext) {
+            final ReloadableConfigContext reloadable = (ReloadableConfigContext) configContext;
+            reloadable.addValidator(configValidator);
+            config = reloadable.snapshot();
+            this.appliedConfig.set(config);
+            this.setConfig(reloadable);
+        } else {
+            this.setConfig(configContext);
+            config = frozenConfig;
+        }
+
+        validateConfig(config);
+
+        this.rateLimiter = new ErrorRateLimiter(config.getRateLimit(), config.getRateLimitBurst(),
+                config.getClassRateLimit(), config.getClassRateLimitBurst());
+        // Opened first, since it rejects directories used with other settings
+        this.spool = NoticeSpool.forConfig(config);
+        this.retryScheduler = new RetryScheduler(config);
+        this.transport = NoticeTransport.forConfig(config);
+
+        if (spool != null) {
+            spool.startReplaying(spoolSender);
+        }
+
+        if (config.getAggregationWindow() > 0) {
+            this.aggregator = new ErrorAggregator<>(config.getAggregationWindow(),
+                    this::sendAggregatedSummary);
+        }
+
+        // Starts a hostname lookup if needed, so that it's done before the first error
+        ProcessIdentity.get();
+    }
 
+    /**
+     * Checks the settings a reporter can't work without.
+     *
+     * @param config configuration to check
+     * @throws IllegalArgumentException thrown when a setting is missing or invalid
+     */
+    static void validateConfig(final ConfigContext config) {
         if (config.getApiKey() == null) {
             throw new IllegalArgumentException("API key must be set");
         }
@@ -73,6 +146,111 @@ public class HoneybadgerReporter implements NoticeReporter {
             throw new IllegalArgumentException("Honeybadger property honeybadger.maximum_retry_attempts must be an " +
                     "integer greater than or equal to 0");
         }
+
+        if (config.getThrottlePolicy() == null) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.throttle_policy " +
+                    "must be one of: hold, drop");
+        }
+
+        if (config.getConnectTimeout() == null || config.getConnectTimeout() < 1) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.connect_timeout_millis " +
+                    "must be an integer greater than 0");
+        }
+        if (config.getSocketTimeout() == null || config.getSocketTimeout() < 1) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.socket_timeout_millis " +
+                    "must be an integer greater than 0");
+        }
+        if (config.getSyncWaitTimeout() == null || config.getSyncWaitTimeout() < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.sync_wait_millis " +
+                    "must be an integer greater than or equal to 0");
+        }
+
+        if (config.getAggregationWindow() == null || config.getAggregationWindow() < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.aggregation_window_millis " +
+                    "must be an integer greater than or equal to 0");
+        }
+
+        if (config.getRateLimit() == null || config.getRateLimit() < 0
+                || config.getRateLimitBurst() == null || config.getRateLimitBurst() < 0
+                || config.getClassRateLimit() == null || config.getClassRateLimit() < 0
+                || config.getClassRateLimitBurst() == null || config.getClassRateLimitBurst() < 0) {
+            throw new IllegalArgumentException("Honeybadger rate limit properties must be " +
+                    "integers greater than or equal to 0");
+        }
+        if (config.getStatsInterval() != null && config.getStatsInterval() < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.stats_interval_millis " +
+                    "must be an integer greater than or equal to 0");
+        }
+
+        if (config.getMaxBacktraceFrames() != null && config.getMaxBacktraceFrames() < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.max_backtrace_frames " +
+                    "must be an integer greater than or equal to 0");
+        }
+        if (config.getMaxCauses() != null && config.getMaxCauses() < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.max_causes " +
+                    "must be an integer greater than or equal to 0");
+        }
+        if (config.getMaxCauseDepth() != null && config.getMaxCauseDepth() < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.max_cause_depth " +
+                    "must be an integer greater than or equal to 0");
+        }
+        if (config.getMaxCauseFrames() != null && config.getMaxCauseFrames() < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.max_cause_frames " +
+                    "must be an integer greater than or equal to 0");
+        }
+    }
+
+    /**
+     * Rebuilds the rate limiter and the retry scheduler and picks the
+     * transport matching the new settings after a
+     * {@link ReloadableConfigContext} has published a new snapshot, releasing
+     * the previous transport. Only the thread that wins the swap of the
+     * applied snapshot rebuilds them. The latest snapshot is applied rather
+     * than the one a report was admitted with, so that a slow report never
+     * puts back older settings.
+     */
+    @SuppressWarnings("ReferenceEquality")
+    private void applyReloadedConfig() {
+        if (!(config instanceof ReloadableConfigContext)) {
+            return;
+        }
+
+        final FrozenConfigContext current = ((ReloadableConfigContext) config).snapshot();
+        final ConfigContext applied = appliedConfig.get();
+
+        // Snapshots are immutable, so an unchanged reference means unchanged settings
+        if (current == applied || !appliedConfig.compareAndSet(applied, current)) {
+            return;
+        }
+
+        if (!Objects.equals(current.getRateLimit(), applied.getRateLimit())
+                || !Objects.equals(current.getRateLimitBurst(), applied.getRateLimitBurst())
+                || !Objects.equals(current.getClassRateLimit(), applied.getClassRateLimit())
+                || !Objects.equals(current.getClassRateLimitBurst(), applied.getClassRateLimitBurst())) {
+            this.rateLimiter = new ErrorRateLimiter(current.getRateLimit(), current.getRateLimitBurst(),
+                    current.getClassRateLimit(), current.getClassRateLimitBurst());
+        }
+
+        if (!Objects.equals(current.getRetryInitialDelay(), applied.getRetryInitialDelay())
+                || !Objects.equals(current.getRetryMaximumDelay(), applied.getRetryMaximumDelay())
+                || !Objects.equals(current.getDeliveryDeadline(), applied.getDeliveryDeadline())) {
+            try {
+                setRetryScheduler(getRetryScheduler().reconfigure(current));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Keeping the previous Honeybadger retry settings: {}", e.getMessage());
+            }
+        }
+
+        final NoticeTransport reloaded;
+
+        try {
+            reloaded = NoticeTransport.forConfig(current);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Keeping the previous Honeybadger transport: {}", e.getMessage());
+            return;
+        }
+
+        setTransport(reloaded);
     }
 
     /**
@@ -145,10 +323,168 @@ public class HoneybadgerReporter implements NoticeReporter {
             return null;
         }
 
+        final FrozenConfigContext config = getConfigSnapshot();
         final Set<String> tagsSet = aggregateTags(tags);
 
+        return submitError(config, error, parseRequest(config, request), message, tagsSet);
+    }
+
+    /**
+     * Send any Java {@link java.lang.Throwable} to the Honeybadger error
+     * reporting interface without waiting for retries. The first attempt is
+     * made on the calling thread.
+     *
+     * @param error error to report
+     * @return future completed with the result of the submission, with null if
+     *         there was a problem or the error was ignored
+     */
+    public NoticeDelivery reportErrorAsync(final Throwable error) {
+        return reportErrorAsync(error, null, null, Collections.emptySet());
+    }
+
+    /**
+     * Send any Java {@link java.lang.Throwable} to the Honeybadger error
+     * reporting interface without waiting for retries. The first attempt is
+     * made on the calling thread.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @return future completed with the result of the submission, with null if
+     *         there was a problem or the error was ignored
+     */
+    public NoticeDelivery reportErrorAsync(final Throwable error, final Object request) {
+        return reportErrorAsync(error, request, null, Collections.emptySet());
+    }
+
+    /**
+     * Send any Java {@link java.lang.Throwable} to the Honeybadger error
+     * reporting interface without waiting for retries. The first attempt is
+     * made on the calling thread.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @param message message to report instead of message associated with exception
+     * @return future completed with the result of the submission, with null if
+     *         there was a problem or the error was ignored
+     */
+    public NoticeDelivery reportErrorAsync(final Throwable error, final Object request,
+                                           final String message) {
+        return reportErrorAsync(error, request, message, Collections.emptySet());
+    }
+
+    /**
+     * Send any Java {@link java.lang.Throwable} to the Honeybadger error
+     * reporting interface without waiting for retries. The first attempt is
+     * made on the calling thread.
+     *
+     * @param error error to report
+     * @param request Object to parse for request properties
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values (duplicates will be removed)
+     * @return future completed with the result of the submission, with null if
+     *         there was a problem or the error was ignored
+     */
+    public NoticeDelivery reportErrorAsync(final Throwable error, final Object request,
+                                           final String message, final Iterable<String> tags) {
+        final NoticeDelivery delivery = new NoticeDelivery();
+
+        if (error == null) {
+            delivery.complete(null);
+            return delivery;
+        }
+
+        final FrozenConfigContext config = getConfigSnapshot();
+
+        return submitErrorAsync(config, error, parseRequest(config, request), message,
+                aggregateTags(tags), delivery);
+    }
+
+    /**
+     * @return the context this reporter was created with. Reporting reads a
+     *         snapshot of it that is taken when the context is set, so
+     *         changes made to it afterwards are not picked up unless it is a
+     *         {@link ReloadableConfigContext}.
+     */
+    @Override
+    public ConfigContext getConfig() {
+        return config;
+    }
+
+    /**
+     * Takes the snapshot of the configuration that an error is reported
+     * with. It is read once per report and passed along, so that a report
+     * never mixes values from two versions of a reloaded configuration.
+     *
+     * @return snapshot of the configuration to report an error with
+     */
+    protected FrozenConfigContext getConfigSnapshot() {
+        if (config instanceof ReloadableConfigContext) {
+            return ((ReloadableConfigContext) config).snapshot();
+        }
+
+        return frozenConfig;
+    }
+
+    /**
+     * Sends the summaries of the current aggregation window and stops the
+     * background work that keeps this reporter alive: the periodic
+     * aggregation flush and the replay of the spool. Deliveries that are
+     * already under way are finished in the background, after which this
+     * reporter's reference to the transport is released.
+     */
+    @Override
+    public void close() {
+        if (aggregator != null) {
+            aggregator.close();
+        }
+
+        if (spool != null) {
+            spool.stopReplaying(spoolSender);
+        }
+
+        if (config instanceof ReloadableConfigContext) {
+            ((ReloadableConfigContext) config).removeValidator(configValidator);
+        }
+
+        if (closed.compareAndSet(false, true)) {
+            releaseTransportUser();
+        }
+    }
+
+    private void releaseTransportUser() {
+        if (transportUsers.decrementAndGet() > 0) {
+            return;
+        }
+
+        final NoticeTransport released;
+
+        synchronized (transportLock) {
+            if (transportReleased) {
+                return;
+            }
+
+            transportReleased = true;
+            released = transport;
+        }
+
+        if (released != null) {
+            released.release();
+        }
+    }
+
+    /**
+     * Converts a framework specific request object into a request DTO. This
+     * must be done on the thread that is handling the request because most
+     * frameworks recycle their request objects once the request completes.
+     *
+     * @param config configuration snapshot of the report
+     * @param request Object to parse for request properties
+     * @return request DTO or null if the request type isn't supported
+     */
+    protected io.honeybadger.reporter.dto.Request parseRequest(final FrozenConfigContext config,
+                                                               final Object request) {
         if (request == null) {
-            return submitError(error, null, message, tagsSet);
+            return null;
         }
 
         final io.honeybadger.reporter.dto.Request requestDetails;
@@ -158,28 +494,19 @@ public class HoneybadgerReporter implements NoticeReporter {
             logger.debug("Reporting using a request DTO");
             requestDetails = (io.honeybadger.reporter.dto.Request)request;
 
-        // SERVLET REQUEST - ALSO USED BY SPRING
-        } else if (supportsHttpServletRequest() && request instanceof javax.servlet.http.HttpServletRequest)  {
-            logger.debug("Reporting from a servlet context");
-            requestDetails =  HttpServletRequestFactory.create(getConfig(),
-                    (javax.servlet.http.HttpServletRequest) request);
-
-        // PLAY FRAMEWORK REQUEST
-        } else if (supportsPlayHttpRequest() && request instanceof play.mvc.Http.Request) {
-            logger.debug("Reporting from the Play Framework");
-            requestDetails = PlayHttpRequestFactory.create(getConfig(),
-                    (play.mvc.Http.Request)request);
+        // SERVLET, SPRING, PLAY FRAMEWORK AND OTHER REQUESTS WITH AN ADAPTER
         } else {
-            logger.debug("No request object available");
-            requestDetails = null;
-        }
+            final RequestAdapter adapter = RequestAdapters.forType(request.getClass());
 
-        return submitError(error, requestDetails, message, tagsSet);
-    }
+            if (adapter == null) {
+                logger.debug("No request adapter for {}", request.getClass().getName());
+                requestDetails = null;
+            } else {
+                requestDetails = adapter.adapt(config, request);
+            }
+        }
 
-    @Override
-    public ConfigContext getConfig() {
-        return config;
+        return requestDetails;
     }
 
     /**
@@ -219,6 +546,11 @@ public class HoneybadgerReporter implements NoticeReporter {
         return Collections.unmodifiableSet(tagHashSet);
     }
 
+    /**
+     * @return true if the servlet API is on the classpath
+     * @deprecated requests are converted by the {@link RequestAdapter}s found on the classpath
+     */
+    @Deprecated
     @SuppressWarnings("LiteralClassName")
     protected boolean supportsHttpServletRequest() {
         try {
@@ -229,6 +561,11 @@ public class HoneybadgerReporter implements NoticeReporter {
         }
     }
 
+    /**
+     * @return true if the Play Framework is on the classpath
+     * @deprecated requests are converted by the {@link RequestAdapter}s found on the classpath
+     */
+    @Deprecated
     @SuppressWarnings("LiteralClassName")
     protected boolean supportsPlayHttpRequest() {
         try {
@@ -239,77 +576,601 @@ public class HoneybadgerReporter implements NoticeReporter {
         }
     }
 
+    /**
+     * Sends an error and waits for the delivery to finish, including any
+     * retries, for at most the configured synchronous wait budget. The first
+     * attempt is made on the calling thread and is bounded by the connect and
+     * socket timeouts. If it fails, the caller waits for the retries for what
+     * is left of the budget. Delivery continues in the background after a
+     * timeout.
+     *
+     * @param error error to report
+     * @param request request DTO or null
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values
+     * @return result of the submission, if there was a problem, the wait timed out
+     *         or the error was ignored null
+     */
     protected NoticeReportResult submitError(final Throwable error,
                                              final io.honeybadger.reporter.dto.Request request,
                                              final String message,
                                              final Set<String> tags) {
-        final String errorClassName = error.getClass().getName();
-        if (errorClassName != null &&
-                getConfig().getExcludedClasses().contains(errorClassName)) {
+        return submitError(getConfigSnapshot(), error, request, message, tags);
+    }
+
+    /**
+     * Sends an error with a configuration snapshot taken by the caller and
+     * waits for the delivery as described in
+     * {@link #submitError(Throwable, io.honeybadger.reporter.dto.Request, String, Set)}.
+     *
+     * @param config configuration snapshot of the report
+     * @param error error to report
+     * @param request request DTO or null
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values
+     * @return result of the submission, if there was a problem, the wait timed out
+     *         or the error was ignored null
+     */
+    protected NoticeReportResult submitError(final FrozenConfigContext config,
+                                             final Throwable error,
+                                             final io.honeybadger.reporter.dto.Request request,
+                                             final String message,
+                                             final Set<String> tags) {
+        if (!admitError(config, error, request, message, tags)) {
+            return null;
+        }
+
+        final long startedNanos = System.nanoTime();
+        final Notice notice = buildNotice(config, error, request, message, tags);
+        final NoticeDelivery delivery = new NoticeDelivery();
+
+        try {
+            sendNotice(config, notice, error, delivery);
+        } catch (RuntimeException e) {
+            delivery.completeExceptionally(e);
+        }
+
+        final long remainingMillis = config.getSyncWaitTimeout()
+                - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+
+        try {
+            return delivery.get(Math.max(0L, remainingMillis), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            logger.error("An error occurred when sending data to the Honeybadger API", e.getCause());
             return null;
+        } catch (TimeoutException e) {
+            logger.warn("Honeybadger didn't accept the error within {}ms. Delivery will " +
+                    "continue in the background.", config.getSyncWaitTimeout());
+            return null;
+        }
+    }
+
+    /**
+     * Builds a notice for an error and starts sending it, unless the error
+     * isn't admitted. The first attempt is made on the calling thread,
+     * retries are made in the background.
+     *
+     * @param config configuration snapshot of the report
+     * @param error error to report
+     * @param request request DTO or null
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values
+     * @param delivery future to complete with the result of the submission
+     * @return the passed delivery
+     */
+    protected NoticeDelivery submitErrorAsync(final FrozenConfigContext config,
+                                              final Throwable error,
+                                              final io.honeybadger.reporter.dto.Request request,
+                                              final String message,
+                                              final Set<String> tags,
+                                              final NoticeDelivery delivery) {
+        if (!admitError(config, error, request, message, tags)) {
+            delivery.complete(null);
+            return delivery;
+        }
+
+        return deliverError(config, error, request, message, tags, delivery);
+    }
+
+    /**
+     * Builds a notice for an error that has already been admitted by
+     * {@link #admitError(FrozenConfigContext, Throwable, io.honeybadger.reporter.dto.Request, String, Set)}
+     * and starts sending it.
+     *
+     * @param config configuration snapshot the error was admitted with
+     * @param error error to report
+     * @param request request DTO or null
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values
+     * @param delivery future to complete with the result of the submission
+     * @return the passed delivery
+     */
+    protected NoticeDelivery deliverError(final FrozenConfigContext config,
+                                          final Throwable error,
+                                          final io.honeybadger.reporter.dto.Request request,
+                                          final String message,
+                                          final Set<String> tags,
+                                          final NoticeDelivery delivery) {
+        return deliverError(config, error, request, message, tags, null, delivery);
+    }
+
+    /**
+     * Builds a notice for an error that has already been admitted and starts
+     * sending it. When a token is passed, the error is created with that ID,
+     * so that the ID can be shown to users before the notice is sent.
+     *
+     * @param config configuration snapshot the error was admitted with
+     * @param error error to report
+     * @param request request DTO or null
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values
+     * @param token ID of the error or null to let the Honeybadger API assign it
+     * @param delivery future to complete with the result of the submission
+     * @return the passed delivery
+     */
+    protected NoticeDelivery deliverError(final FrozenConfigContext config,
+                                          final Throwable error,
+                                          final io.honeybadger.reporter.dto.Request request,
+                                          final String message,
+                                          final Set<String> tags,
+                                          final UUID token,
+                                          final NoticeDelivery delivery) {
+        final Notice notice = buildNotice(config, error, request, message, tags);
+
+        if (token != null) {
+            notice.getError().setToken(token);
+        }
+
+        sendNotice(config, notice, error, delivery);
+
+        return delivery;
+    }
+
+    /**
+     * Decides if an error should be sent. Excluded errors, errors counted
+     * towards an aggregation window and errors over the rate limits are not
+     * sent. This is checked before the notice is built, so that the cost of
+     * errors that aren't sent stays small.
+     *
+     * @param config configuration snapshot of the report
+     * @param error error to check
+     * @param request request DTO or null
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values
+     * @return true if a notice should be built and sent for the error
+     */
+    protected boolean admitError(final FrozenConfigContext config,
+                                 final Throwable error,
+                                 final io.honeybadger.reporter.dto.Request request,
+                                 final String message,
+                                 final Set<String> tags) {
+        applyReloadedConfig();
+
+        if (isExcluded(config, error) || isAggregated(config, error, request, message, tags)) {
+            return false;
+        }
+
+        if (rateLimiter.isEnabled() && !rateLimiter.tryAcquire(error)) {
+            logger.debug("Dropping error because the Honeybadger rate limit was exceeded: {}",
+                    error.toString());
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Counts an error towards its aggregation window when aggregation is
+     * enabled. This happens before the notice is built, so that repeated
+     * errors cost little more than calculating their fingerprint.
+     *
+     * @param config configuration snapshot of the report
+     * @param error error to check
+     * @param request request DTO or null
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values
+     * @return true if the error was counted and must not be sent now
+     */
+    protected boolean isAggregated(final FrozenConfigContext config,
+                                   final Throwable error,
+                                   final io.honeybadger.reporter.dto.Request request,
+                                   final String message,
+                                   final Set<String> tags) {
+        if (aggregator == null) {
+            return false;
+        }
+
+        final String fingerprint = getExceptionPolicy(config, error).fingerprint(error,
+                ApplicationPackages.forConfig(config));
+
+        return !aggregator.admit(fingerprint, new Occurrence(error, request, message, tags,
+                MDC.getCopyOfContextMap()));
+    }
+
+    /**
+     * Sends a single notice for the occurrences of an error counted during an
+     * aggregation window. The count is added to the notice's details. The
+     * notice is built with the MDC captured from the reporting thread. It is
+     * built on the aggregation flusher, which all reporters share, but sent
+     * on the retry threads so that an unresponsive API never stalls flushes.
+     */
+    private void sendAggregatedSummary(final String fingerprint, final Occurrence sample,
+                                       final long occurrences, final long windowMillis) {
+        // Summaries are also sent by close(), so the caller's MDC is put back afterwards
+        final Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+
+        if (sample.mdc != null) {
+            MDC.setContextMap(sample.mdc);
+        } else {
+            MDC.clear();
+        }
+
+        try {
+            final FrozenConfigContext config = getConfigSnapshot();
+            final Notice notice = buildNotice(config, sample.error, sample.request, sample.message,
+                    sample.tags);
+            final Map<String, String> aggregation = new LinkedHashMap<>();
+            aggregation.put("occurrences", Long.toString(occurrences));
+            aggregation.put("window_millis", Long.toString(windowMillis));
+            aggregation.put("fingerprint", fingerprint);
+            notice.getDetails().put("Aggregation", aggregation);
+
+            sendInBackground(config, notice, sample.error);
+        } finally {
+            if (callerMdc != null) {
+                MDC.setContextMap(callerMdc);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+
+    /**
+     * Sends a notice on the retry threads, so that the thread handing it over
+     * never waits on the network. The reporter's transport is kept open until
+     * the send has started, even if the reporter is closed in the meantime.
+     */
+    private void sendInBackground(final FrozenConfigContext config, final Notice notice,
+                                  final Throwable error) {
+        transportUsers.incrementAndGet();
+
+        final boolean scheduled = retryScheduler.schedule(() -> {
+            try {
+                sendNotice(config, notice, error, new NoticeDelivery());
+            } finally {
+                releaseTransportUser();
+            }
+        }, 0L);
+
+        if (!scheduled) {
+            releaseTransportUser();
+            logger.warn("Dropping aggregated error summary because too many retries are pending");
+        }
+    }
+
+    /**
+     * @param config configuration snapshot of the report
+     * @param error error to check
+     * @return true if the error's class or one of its supertypes has been
+     *         configured to never be reported
+     */
+    protected boolean isExcluded(final FrozenConfigContext config, final Throwable error) {
+        return getExceptionPolicy(config, error).isExcluded();
+    }
+
+    /**
+     * Finds the policy for an error's class. Policies are cached per class
+     * and worked out again when the excluded classes change.
+     *
+     * @param config configuration snapshot of the report
+     * @param error error to find the policy for
+     * @return policy for the error's class
+     */
+    protected ExceptionPolicy getExceptionPolicy(final FrozenConfigContext config,
+                                                 final Throwable error) {
+        final Set<String> excludedClasses = config.getExcludedClasses();
+        ExceptionPolicies current = exceptionPolicies;
+
+        if (current == null || !current.isFor(excludedClasses)) {
+            current = new ExceptionPolicies(excludedClasses);
+            exceptionPolicies = current;
         }
 
-        final Notice notice = new Notice(getConfig());
+        return current.forClass(error.getClass());
+    }
+
+    /**
+     * Builds the notice DTO for an error. Thread local state like the MDC
+     * is read from the calling thread.
+     *
+     * @param config configuration snapshot of the report
+     * @param error error to report
+     * @param request request DTO or null
+     * @param message message to report instead of message associated with exception
+     * @param tags tag values
+     * @return notice ready to be sent to the Honeybadger API
+     */
+    protected Notice buildNotice(final FrozenConfigContext config,
+                                 final Throwable error,
+                                 final io.honeybadger.reporter.dto.Request request,
+                                 final String message,
+                                 final Set<String> tags) {
+        final Notice notice = new Notice(config);
 
         if (request != null) {
             final String reportedMessage;
             if (message != null && !message.isEmpty()) {
                 reportedMessage = message;
             } else {
-                reportedMessage = parseMessage(error);
+                reportedMessage = getExceptionPolicy(config, error).message(error);
             }
 
             NoticeDetails noticeDetails = new NoticeDetails(
-                    getConfig(), error, tags, reportedMessage);
+                    config, error, tags, reportedMessage);
             notice.setRequest(request).setError(noticeDetails);
         } else {
-            NoticeDetails noticeDetails = new NoticeDetails(getConfig(), error, tags);
+            NoticeDetails noticeDetails = new NoticeDetails(config, error, tags);
             notice.setError(noticeDetails);
         }
 
-        /* We may need to retry sending the JSON, so we temporarily keep it as a string.
-           Future enhancement may convert this to a stream, but that's likely to require a
-           bit more testing.
-         */
-        String json;
+        return notice;
+    }
+
+    /**
+     * Serializes a notice and sends it to the Honeybadger API. Failed attempts
+     * are retried as configured using {@link RetryScheduler}, so this method
+     * returns after the first attempt. If every attempt fails, the notice is
+     * spooled when a spool is configured.
+     *
+     * @param config configuration snapshot of the report
+     * @param notice notice to send
+     * @param error original error used for logging
+     * @param delivery future to complete with the result of the submission,
+     *                 with null if there was a problem
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    protected void sendNotice(final FrozenConfigContext config, final Notice notice,
+                              final Throwable error, final NoticeDelivery delivery) {
+        final NoticeBuffer payload = NoticeBuffer.acquire();
+
         try {
-            json = OBJECT_MAPPER.writeValueAsString(notice);
-        } catch (JsonProcessingException e) {
+            OBJECT_MAPPER.writeValue(payload, notice);
+        } catch (IOException e) {
+            payload.release();
             logger.error("JSON Serialization of the Notice Failed.", e);
             logger.error("Original Error", error);
-            return null;
+            delivery.complete(null);
+            return;
         }
 
-        for (int retries = 0; retries <= config.getMaximumErrorReportingRetries(); retries++) {
-            try {
-                HttpResponse response = sendToHoneybadger(json)
-                        .returnResponse();
-                int responseCode = response.getStatusLine().getStatusCode();
-
-                if (responseCode != HttpStatus.SC_CREATED) {
-                    logger.error("Honeybadger did not respond with the " +
-                                    "correct code. Response was [{}]. Retries={}, Maximum={}",
-                            responseCode, retries, config.getMaximumErrorReportingRetries());
-                } else {
-                    UUID id = parseErrorId(response);
-
-                    return new NoticeReportResult(id, notice, error);
+        transportUsers.incrementAndGet();
+        delivery.whenComplete((result, e) -> releaseTransportUser());
+        attemptDelivery(config, payload, notice, error, delivery, 0, System.nanoTime());
+    }
+
+    private void attemptDelivery(final FrozenConfigContext config, final NoticeBuffer payload,
+                                 final Notice notice, final Throwable error,
+                                 final NoticeDelivery delivery, final int retries,
+                                 final long startedNanos) {
+        final long pauseMillis = getTransport().getPauseRemainingMillis();
+
+        if (pauseMillis > 0) {
+            holdOrDrop(config, payload, notice, error, delivery, retries, startedNanos, pauseMillis);
+            return;
+        }
+
+        final HttpResponse response;
+
+        try {
+            response = sendToHoneybadger(payload.toEntity());
+        } catch (IOException e) {
+            String msg = String.format("There was an error when trying " +
+                            "to send the error to " +
+                            "Honeybadger. Retries=%d, Maximum=%d", retries,
+                    config.getMaximumErrorReportingRetries());
+            logger.error(msg, e);
+            logger.error("Original Error", error);
+            retryOrGiveUp(config, payload, notice, error, delivery, retries, startedNanos,
+                    null, null, e, 0L);
+            return;
+        } catch (RuntimeException e) {
+            payload.release();
+            delivery.addAttempt(new DeliveryAttempt(retries + 1, null, null, e, false, -1L));
+            delivery.completeExceptionally(e);
+            return;
+        }
+
+        final int responseCode = response.getStatusLine().getStatusCode();
+        final ResponseClassification classification = ResponseClassifier.classify(response);
+
+        switch (classification) {
+            case SUCCESS:
+                payload.release();
+                final UUID id;
+
+                try {
+                    id = parseErrorId(response);
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Unable to read error ID from Honeybadger response", e);
+                    delivery.addAttempt(new DeliveryAttempt(retries + 1, responseCode,
+                            classification, e, true, -1L));
+                    delivery.complete(new NoticeReportResult(null, notice, error));
+                    return;
+                }
+
+                delivery.addAttempt(new DeliveryAttempt(retries + 1, responseCode,
+                        classification, null, true, -1L));
+
+                if (spool != null) {
+                    spool.requestReplay();
                 }
-            } catch (IOException e) {
-                String msg = String.format("There was an error when trying " +
-                                "to send the error to " +
-                                "Honeybadger. Retries=%d, Maximum=%d", retries,
-                        config.getMaximumErrorReportingRetries());
-                logger.error(msg, e);
+
+                delivery.complete(new NoticeReportResult(id, notice, error));
+                return;
+            case PERMANENT:
+                payload.release();
+                logger.error("Honeybadger rejected the error and it will not be " +
+                        "retried. Response was [{}]", responseCode);
                 logger.error("Original Error", error);
+                delivery.addAttempt(new DeliveryAttempt(retries + 1, responseCode,
+                        classification, null, false, -1L));
+                delivery.complete(null);
+                return;
+            case THROTTLED:
+                final long throttledMillis = ResponseClassifier.pauseMillis(response,
+                        System.currentTimeMillis());
+                getTransport().pauseFor(throttledMillis);
+                logger.warn("Honeybadger asked us to pause sending errors for {}ms. " +
+                        "Response was [{}]", throttledMillis, responseCode);
+                retryOrGiveUp(config, payload, notice, error, delivery, retries, startedNanos,
+                        responseCode, classification, null, throttledMillis);
+                return;
+            default:
+                logger.error("Honeybadger did not respond with the " +
+                                "correct code. Response was [{}]. Retries={}, Maximum={}",
+                        responseCode, retries, config.getMaximumErrorReportingRetries());
+                retryOrGiveUp(config, payload, notice, error, delivery, retries, startedNanos,
+                        responseCode, classification, null, 0L);
+        }
+    }
+
+    /**
+     * Schedules the next attempt of a failed delivery. If there are no retries
+     * left or the next attempt would miss the delivery deadline, the notice
+     * is spooled instead.
+     */
+    private void retryOrGiveUp(final FrozenConfigContext config, final NoticeBuffer payload,
+                               final Notice notice, final Throwable error,
+                               final NoticeDelivery delivery, final int retries,
+                               final long startedNanos, final Integer responseCode,
+                               final ResponseClassification classification,
+                               final IOException failure, final long minimumDelayMillis) {
+        if (classification == ResponseClassification.THROTTLED
+                && config.getThrottlePolicy() == ThrottlePolicy.DROP) {
+            payload.release();
+            delivery.addAttempt(new DeliveryAttempt(retries + 1, responseCode,
+                    classification, failure, false, -1L));
+            delivery.complete(null);
+            return;
+        }
+
+        if (retries < config.getMaximumErrorReportingRetries()) {
+            final RetryScheduler scheduler = retryScheduler;
+            final long delayMillis = Math.max(scheduler.delayMillis(retries),
+                    minimumDelayMillis);
+
+            if (scheduler.isBeforeDeadline(startedNanos, delayMillis)) {
+                // Recorded before scheduling, because the retry may run right away
+                delivery.addAttempt(new DeliveryAttempt(retries + 1, responseCode,
+                        classification, failure, false, delayMillis));
+
+                if (scheduler.schedule(() -> attemptDelivery(config, payload, notice, error,
+                        delivery, retries + 1, startedNanos), delayMillis)) {
+                    return;
+                }
+
+                logger.warn("Giving up on sending error to Honeybadger because too many " +
+                        "retries are pending");
+                delivery.replaceLastAttempt(new DeliveryAttempt(retries + 1, responseCode,
+                        classification, failure, false, -1L));
+                giveUp(payload, delivery);
+                return;
+            }
+
+            logger.warn("Giving up on sending error to Honeybadger because the " +
+                    "delivery deadline of {}ms would be exceeded", scheduler.getDeadlineMillis());
+        }
+
+        delivery.addAttempt(new DeliveryAttempt(retries + 1, responseCode,
+                classification, failure, false, -1L));
+        giveUp(payload, delivery);
+    }
+
+    /**
+     * Handles a notice reported while the Honeybadger API has asked us to
+     * pause. Held notices are sent once the pause expires, with some jitter
+     * so that they don't all arrive at once. Waiting doesn't use up retries.
+     */
+    private void holdOrDrop(final FrozenConfigContext config, final NoticeBuffer payload,
+                            final Notice notice, final Throwable error,
+                            final NoticeDelivery delivery, final int retries,
+                            final long startedNanos, final long pauseMillis) {
+        if (config.getThrottlePolicy() == ThrottlePolicy.DROP) {
+            logger.debug("Dropping error because Honeybadger asked us to pause " +
+                    "sending errors for another {}ms", pauseMillis);
+            payload.release();
+            delivery.complete(null);
+            return;
+        }
+
+        final RetryScheduler scheduler = retryScheduler;
+        final long delayMillis = pauseMillis + scheduler.delayMillis(0);
+
+        if (!scheduler.isBeforeDeadline(startedNanos, delayMillis)
+                || !scheduler.schedule(() -> attemptDelivery(config, payload, notice, error,
+                        delivery, retries, startedNanos), delayMillis)) {
+            giveUp(payload, delivery);
+        }
+    }
+
+    private void giveUp(final NoticeBuffer payload, final NoticeDelivery delivery) {
+        if (spool != null && spool.append(payload.array(), 0, payload.size())) {
+            logger.info("Spooled notice to {} for later delivery", spool.getDirectory());
+        }
+
+        payload.release();
+        delivery.complete(null);
+    }
+
+    /**
+     * Sends a notice that was previously spooled to disk. Notices that the
+     * API will never accept are discarded rather than replayed forever.
+     *
+     * @param notice serialized notice
+     * @return true if the notice can be removed from the spool
+     */
+    protected boolean deliverSpooledNotice(final byte[] notice) {
+        if (getTransport().getPauseRemainingMillis() > 0) {
+            return false;
+        }
+
+        try {
+            HttpResponse response = sendToHoneybadger(
+                    new ByteArrayEntity(notice, ContentType.APPLICATION_JSON));
+            int responseCode = response.getStatusLine().getStatusCode();
+
+            switch (ResponseClassifier.classify(response)) {
+                case SUCCESS:
+                    return true;
+                case PERMANENT:
+                    logger.warn("Honeybadger rejected a spooled notice. Response was [{}]. " +
+                            "Discarding notice.", responseCode);
+                    return true;
+                case THROTTLED:
+                    getTransport().pauseFor(ResponseClassifier.pauseMillis(response,
+                            System.currentTimeMillis()));
+                    return false;
+                default:
+                    logger.debug("Honeybadger did not accept spooled notice. Response was [{}]",
+                            responseCode);
+                    return false;
             }
+        } catch (IOException e) {
+            logger.debug("Unable to send spooled notice to Honeybadger", e);
         }
 
-        return null;
+        return false;
     }
 
     private UUID parseErrorId(final HttpResponse response)
             throws IOException {
+        if (response.getEntity() == null) {
+            return null;
+        }
+
         try (InputStream in = response.getEntity().getContent();
              Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
 
@@ -324,113 +1185,139 @@ public class HoneybadgerReporter implements NoticeReporter {
     }
 
     /**
-     * Parses the exception message and strips out redundant context information
-     * if we are already sending the information as part of the error context.
+     * Send an error encoded in JSON to the Honeybadger API. The entity is
+     * repeatable and is only valid until this method returns.
      *
-     * @param throwable throwable to parse message from
-     * @return string containing the throwable's error message
+     * @param jsonError Error JSON payload
+     * @return Response from the Honeybadger API
+     * @throws IOException thrown when a network exception was encountered
      */
-    private static String parseMessage(final Throwable throwable) {
-        if (exceptionClassHasContextedVariables(throwable.getClass())) {
-            final String msg = throwable.getMessage();
-            final int contextSeparatorPos = msg.indexOf("Exception Context:");
-
-            if (contextSeparatorPos == -1) {
-                return msg;
-            }
-
-            return msg.substring(0, contextSeparatorPos).trim();
-        } else {
-            return throwable.getMessage();
-        }
+    protected HttpResponse sendToHoneybadger(final HttpEntity jsonError) throws IOException {
+        return getTransport().send(jsonError);
     }
 
     /**
      * Send an error encoded in JSON to the Honeybadger API.
      *
      * @param jsonError Error JSON payload
-     * @return Status code from the Honeybadger API
+     * @return Response from the Honeybadger API
      * @throws IOException thrown when a network exception was encountered
+     * @deprecated notices are no longer serialized to a String and this
+     *             method isn't called by the reporter, override
+     *             {@link #sendToHoneybadger(HttpEntity)} instead
      */
-    protected Response sendToHoneybadger(final String jsonError) throws IOException {
-        URI honeybadgerUrl = URI.create(
-                String.format("%s/%s", getConfig().getHoneybadgerUrl(), "v1/notices"));
-        Request request = buildRequest(honeybadgerUrl, jsonError);
+    @Deprecated
+    protected HttpResponse sendToHoneybadger(final String jsonError) throws IOException {
+        return sendToHoneybadger(new ByteArrayEntity(jsonError.getBytes(StandardCharsets.UTF_8),
+                ContentType.APPLICATION_JSON));
+    }
+
+    protected void setConfig(final ConfigContext config) {
+        this.config = config;
+
+        if (config instanceof ReloadableConfigContext) {
+            this.frozenConfig = null;
+        } else {
+            this.frozenConfig = FrozenConfigContext.of(config);
+        }
+    }
 
-        return request.execute();
+    /**
+     * @return transport used to send notices to the Honeybadger API
+     */
+    protected NoticeTransport getTransport() {
+        return transport;
     }
 
     /**
-     * Builds a Apache HTTP Client request object configured for calling the
-     * Honeybadger API.
+     * Replaces the transport. The reporter takes over the caller's reference
+     * to the new transport and releases its reference to the previous one.
+     * After the reporter has released its transport on close, the new
+     * transport is released right away.
      *
-     * @param honeybadgerUrl Endpoint location
-     * @param jsonError Error JSON payload
-     * @return a configured request object
+     * @param transport transport to send notices with
      */
-    private Request buildRequest(final URI honeybadgerUrl, final String jsonError) {
-        Request request = Request
-               .Post(honeybadgerUrl)
-               .addHeader("X-API-Key", getConfig().getApiKey())
-               .addHeader("Accept", "application/json")
-               .version(HttpVersion.HTTP_1_1)
-               .bodyString(jsonError, ContentType.APPLICATION_JSON);
-
-        if (System.getProperty("http.proxyHost") != null &&
-            !System.getProperty("http.proxyHost").isEmpty()) {
-            int port = Integer.parseInt(System.getProperty("http.proxyPort"));
-            HttpHost proxy = new HttpHost(System.getProperty("http.proxyHost"),
-                                          port);
+    protected void setTransport(final NoticeTransport transport) {
+        final NoticeTransport previous;
 
-            request.viaProxy(proxy);
+        synchronized (transportLock) {
+            if (transportReleased) {
+                previous = transport;
+            } else {
+                previous = this.transport;
+                this.transport = transport;
+            }
         }
 
-        return request;
+        if (previous != null) {
+            previous.release();
+        }
     }
 
     /**
-     * Tests to see if a given exception class has embedded context variables
-     * like {@link org.apache.commons.lang3.exception.ContextedException}.
-     *
-     * @param clazz class to compare
-     * @return true if a contexted exception, otherwise false
+     * @return number of errors dropped because a rate limit was exceeded
      */
-    private static boolean exceptionClassHasContextedVariables(final Class<?> clazz) {
-        if (exceptionContextClasses == null || exceptionContextClasses.isEmpty()) {
-            return false;
-        }
+    public long getRateLimitedCount() {
+        return rateLimiter.getDroppedCount();
+    }
 
-        for (Class<?> exceptionClass : exceptionContextClasses) {
-            if (exceptionClass.isAssignableFrom(clazz)) {
-                return true;
-            }
-        }
+    /**
+     * @return rate limiter applied to errors before their notice is built
+     */
+    protected ErrorRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
 
-        return false;
+    /**
+     * @return aggregator coalescing repeated errors or null if aggregation is disabled
+     */
+    protected ErrorAggregator<Occurrence> getAggregator() {
+        return aggregator;
     }
 
     /**
-     * @return The Apache Commons Lang3 exception context class or null if not found
+     * @return scheduler used to retry failed deliveries
      */
-    @SuppressWarnings("LiteralClassName")
-    private static Set<Class<?>> findExceptionContextClasses() {
-        final String[] classNames = new String[] {
-                "org.apache.commons.lang3.exception.ExceptionContext"
-        };
+    protected RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
 
-        final Set<Class<?>> classes = new LinkedHashSet<>(classNames.length);
+    protected void setRetryScheduler(final RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
 
-        for (String className : classNames) {
-            try {
-                classes.add(Class.forName(className));
-            } catch (ClassNotFoundException ignored) {
-            }
-        }
+    /**
+     * @return spool notices are written to when they can't be delivered or
+     *         null if spooling isn't configured
+     */
+    protected NoticeSpool getSpool() {
+        return spool;
+    }
 
-        return Collections.unmodifiableSet(classes);
+    protected void setSpool(final NoticeSpool spool) {
+        this.spool = spool;
     }
 
-    protected void setConfig(final ConfigContext config) {
-        this.config = config;
+    /**
+     * An aggregated occurrence of an error, kept to build the summary notice.
+     */
+    protected static final class Occurrence {
+        private final Throwable error;
+        private final io.honeybadger.reporter.dto.Request request;
+        private final String message;
+        private final Set<String> tags;
+        private final Map<String, String> mdc;
+
+        Occurrence(final Throwable error,
+                   final io.honeybadger.reporter.dto.Request request,
+                   final String message,
+                   final Set<String> tags,
+                   final Map<String, String> mdc) {
+            this.error = error;
+            this.request = request;
+            this.message = message;
+            this.tags = tags;
+            this.mdc = mdc;
+        }
     }
 }
@@ -0,0 +1,37 @@
+package io.honeybadger.reporter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Future result of sending a notice to the Honeybadger API. The future is
+ * completed with the result once the notice is accepted, or with null if the
+ * notice was ignored or couldn't be delivered. The outcome of every attempt
+ * is recorded as it happens and can be inspected before the future completes.
+ *
+ * @since 2.0.1
+ */
+public class NoticeDelivery extends CompletableFuture<NoticeReportResult> {
+    private final List<DeliveryAttempt> attempts = new CopyOnWriteArrayList<>();
+
+    /**
+     * @return outcomes of the attempts made so far, oldest first
+     */
+    public List<DeliveryAttempt> getAttempts() {
+        return Collections.unmodifiableList(attempts);
+    }
+
+    void addAttempt(final DeliveryAttempt attempt) {
+        attempts.add(attempt);
+    }
+
+    /**
+     * Replaces the outcome of the latest attempt. Only safe while no other
+     * attempt can be running, for example when a retry couldn't be scheduled.
+     */
+    void replaceLastAttempt(final DeliveryAttempt attempt) {
+        attempts.set(attempts.size() - 1, attempt);
+    }
+}
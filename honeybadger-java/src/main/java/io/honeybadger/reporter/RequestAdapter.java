@@ -0,0 +1,34 @@
+package io.honeybadger.reporter;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.dto.Request;
+
+/**
+ * Converts the request objects of a web framework to the {@link Request}
+ * reported with an error. Adapters are discovered with
+ * {@link java.util.ServiceLoader}, so support for another framework can be
+ * added by listing an implementation in
+ * <code>META-INF/services/io.honeybadger.reporter.RequestAdapter</code>.
+ * Adapters whose framework isn't on the classpath are skipped.
+ *
+ * <p>The adapter used for a request class is looked up once per class.
+ * When several adapters accept a class, the first one discovered wins.</p>
+ *
+ * @since 2.0.1
+ */
+public interface RequestAdapter {
+    /**
+     * @return the request type this adapter converts, including its subtypes
+     */
+    Class<?> getRequestType();
+
+    /**
+     * Converts a request. The request is read before this method returns, so
+     * that frameworks may recycle it afterwards.
+     *
+     * @param config configuration of the reporter
+     * @param request request, an instance of {@link #getRequestType()}
+     * @return request DTO
+     */
+    Request adapt(ConfigContext config, Object request);
+}
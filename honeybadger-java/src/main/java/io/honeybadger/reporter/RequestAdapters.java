@@ -0,0 +1,99 @@
+package io.honeybadger.reporter;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.dto.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of the {@link RequestAdapter}s found on the classpath. Adapters
+ * are discovered once and the adapter for each request class is cached in a
+ * {@link ClassValue}, so finding the adapter for a request is a single
+ * lookup.
+ *
+ * @since 2.0.1
+ */
+final class RequestAdapters {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestAdapters.class);
+
+    private static final List<RequestAdapter> ADAPTERS = discover();
+
+    /** Cached for request classes that no adapter accepts. */
+    private static final RequestAdapter NONE = new RequestAdapter() {
+        @Override
+        public Class<?> getRequestType() {
+            return Void.class;
+        }
+
+        @Override
+        public Request adapt(final ConfigContext config, final Object request) {
+            return null;
+        }
+    };
+
+    private static final ClassValue<RequestAdapter> BY_TYPE = new ClassValue<RequestAdapter>() {
+        @Override
+        protected RequestAdapter computeValue(final Class<?> type) {
+            for (RequestAdapter adapter : ADAPTERS) {
+                if (adapter.getRequestType().isAssignableFrom(type)) {
+                    return adapter;
+                }
+            }
+
+            return NONE;
+        }
+    };
+
+    private RequestAdapters() {
+    }
+
+    /**
+     * @param type class of a request
+     * @return adapter for the class or null if no adapter accepts it
+     */
+    static RequestAdapter forType(final Class<?> type) {
+        final RequestAdapter adapter = BY_TYPE.get(type);
+        return adapter == NONE ? null : adapter;
+    }
+
+    /**
+     * @return adapters found on the classpath, in discovery order
+     */
+    static List<RequestAdapter> getAdapters() {
+        return ADAPTERS;
+    }
+
+    /**
+     * Loads the adapters, skipping those whose framework classes can't be
+     * loaded.
+     */
+    private static List<RequestAdapter> discover() {
+        final List<RequestAdapter> adapters = new ArrayList<>();
+        final Iterator<RequestAdapter> itr = ServiceLoader.load(RequestAdapter.class,
+                RequestAdapter.class.getClassLoader()).iterator();
+
+        while (true) {
+            try {
+                if (!itr.hasNext()) {
+                    break;
+                }
+
+                final RequestAdapter adapter = itr.next();
+                // Resolves the request type, which fails if the framework is missing
+                adapter.getRequestType();
+                adapters.add(adapter);
+            } catch (ServiceConfigurationError | LinkageError e) {
+                LOGGER.debug("Skipping request adapter that can't be loaded: {}", e.toString());
+            }
+        }
+
+        return Collections.unmodifiableList(adapters);
+    }
+}
@@ -0,0 +1,190 @@
+package io.honeybadger.reporter.aggregation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces repeated occurrences of the same error. The first occurrence of
+ * a fingerprint is admitted and sent immediately. Later occurrences within
+ * the same window are only counted, and at the end of each window a single
+ * summary carrying the count is handed to a {@link SummarySink}. A
+ * fingerprint that had no occurrences during a window is forgotten, so its
+ * next occurrence is again sent immediately.
+ *
+ * <p>Admitting an error is lock-free: it is a map lookup and a
+ * {@link LongAdder} increment for errors that are already being counted.</p>
+ *
+ * @param <S> type of the sample kept for building the summary
+ * @since 2.0.1
+ */
+public class ErrorAggregator<S> implements AutoCloseable {
+    /**
+     * Maximum number of fingerprints tracked at once. Errors with new
+     * fingerprints are admitted without being tracked past this limit, so a
+     * stream of unique errors can't use unbounded memory.
+     */
+    static final int MAX_FINGERPRINTS = 10_000;
+
+    /**
+     * Single thread shared by every aggregator. Sinks must hand network I/O
+     * off to other threads, so that one slow sink doesn't delay the flushes
+     * of every other aggregator.
+     */
+    private static final ScheduledThreadPoolExecutor SHARED_FLUSHER = createFlusher();
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentMap<String, Window<S>> windows = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final SummarySink<S> sink;
+    private final ScheduledFuture<?> flushTask;
+
+    /**
+     * Callback that sends the summary of a window.
+     *
+     * @param <S> type of the sample kept for building the summary
+     */
+    @FunctionalInterface
+    public interface SummarySink<S> {
+        /**
+         * @param fingerprint fingerprint of the aggregated error
+         * @param sample most recent occurrence that wasn't sent
+         * @param occurrences number of occurrences that weren't sent
+         * @param windowMillis length of the aggregation window
+         */
+        void sendSummary(String fingerprint, S sample, long occurrences, long windowMillis);
+    }
+
+    /**
+     * @param windowMillis length of the aggregation window in milliseconds
+     * @param sink callback that sends the summary of each window
+     */
+    public ErrorAggregator(final long windowMillis, final SummarySink<S> sink) {
+        if (windowMillis < 1) {
+            throw new IllegalArgumentException("Aggregation window must be greater than 0");
+        }
+
+        this.windowMillis = windowMillis;
+        this.sink = sink;
+        this.flushTask = SHARED_FLUSHER.scheduleWithFixedDelay(this::flushQuietly,
+                windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records an occurrence of an error.
+     *
+     * @param fingerprint fingerprint of the error
+     * @param sample data needed to build a summary if this occurrence isn't sent
+     * @return true if the occurrence should be sent now, false if it was counted
+     */
+    public boolean admit(final String fingerprint, final S sample) {
+        final Window<S> window = windows.get(fingerprint);
+
+        if (window != null) {
+            window.record(sample);
+            return false;
+        }
+
+        if (windows.size() >= MAX_FINGERPRINTS) {
+            return true;
+        }
+
+        final Window<S> existing = windows.putIfAbsent(fingerprint, new Window<>());
+
+        if (existing != null) {
+            existing.record(sample);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Ends the current window: hands a summary of every fingerprint with
+     * counted occurrences to the sink and forgets fingerprints without any.
+     */
+    public void flush() {
+        for (Map.Entry<String, Window<S>> entry : windows.entrySet()) {
+            final String fingerprint = entry.getKey();
+            final Window<S> window = entry.getValue();
+            long occurrences = window.occurrences.sumThenReset();
+
+            if (occurrences == 0) {
+                windows.remove(fingerprint, window);
+                // Pick up occurrences counted while the window was being removed
+                occurrences = window.occurrences.sumThenReset();
+
+                if (occurrences == 0) {
+                    continue;
+                }
+            }
+
+            sink.sendSummary(fingerprint, window.sample, occurrences, windowMillis);
+        }
+    }
+
+    /**
+     * @return number of fingerprints being tracked
+     */
+    public int getTrackedCount() {
+        return windows.size();
+    }
+
+    /**
+     * @return length of the aggregation window in milliseconds
+     */
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * Stops the periodic flush and sends the summaries of the current window.
+     */
+    @Override
+    public void close() {
+        flushTask.cancel(false);
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("An error occurred when sending aggregated errors", e);
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createFlusher() {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "honeybadger-aggregator");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.setRemoveOnCancelPolicy(true);
+
+        return executor;
+    }
+
+    /**
+     * Occurrences of a fingerprint counted during the current window.
+     */
+    private static final class Window<S> {
+        private final LongAdder occurrences = new LongAdder();
+        private volatile S sample;
+
+        void record(final S occurrence) {
+            // The sample is set first, so that it is never null when counted
+            sample = occurrence;
+            occurrences.increment();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.honeybadger.reporter.aggregation;
+
+import io.honeybadger.reporter.dto.ApplicationPackages;
+
+/**
+ * Utility class for calculating the fingerprint used to decide if two errors
+ * are occurrences of the same problem. Errors with the same class, the same
+ * message once numbers are removed and the same top application frames have
+ * the same fingerprint.
+ *
+ * @since 2.0.1
+ */
+public final class ErrorFingerprint {
+    /** Number of stack frames that are part of the fingerprint. */
+    static final int FINGERPRINT_FRAMES = 3;
+
+    private ErrorFingerprint() { }
+
+    /**
+     * Calculates the fingerprint of an error. The message is passed
+     * separately, so that it can differ from the error's own, for example
+     * once appended context values are removed.
+     *
+     * @param error error to fingerprint
+     * @param message message to fingerprint or null
+     * @param applicationPackages classifier of application frames, the top
+     *                            frames are used when it is empty
+     * @return fingerprint
+     */
+    public static String of(final Throwable error, final String message,
+                            final ApplicationPackages applicationPackages) {
+        final StringBuilder fingerprint = new StringBuilder(256)
+                .append(error.getClass().getName())
+                .append('|');
+        appendMessageTemplate(fingerprint, message);
+
+        final StackTraceElement[] frames = error.getStackTrace();
+        final boolean filter = !applicationPackages.isEmpty();
+        int added = 0;
+
+        for (int i = 0; i < frames.length && added < FINGERPRINT_FRAMES; i++) {
+            final StackTraceElement frame = frames[i];
+
+            if (filter && !applicationPackages.isApplicationClass(frame.getClassName())) {
+                continue;
+            }
+
+            fingerprint.append('|')
+                    .append(frame.getClassName())
+                    .append('.')
+                    .append(frame.getMethodName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+            added++;
+        }
+
+        return fingerprint.toString();
+    }
+
+    /**
+     * Appends a message with every run of digits replaced by '#', so that
+     * messages that only differ by ids, counts or ports are treated alike.
+     *
+     * @param builder builder to append to
+     * @param message message or null
+     */
+    static void appendMessageTemplate(final StringBuilder builder, final String message) {
+        if (message == null) {
+            return;
+        }
+
+        boolean inDigits = false;
+
+        for (int i = 0; i < message.length(); i++) {
+            final char c = message.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                if (!inDigits) {
+                    builder.append('#');
+                    inDigits = true;
+                }
+            } else {
+                builder.append(c);
+                inDigits = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Client-side coalescing of identical errors is contained in this package.
+ */
+package io.honeybadger.reporter.aggregation;
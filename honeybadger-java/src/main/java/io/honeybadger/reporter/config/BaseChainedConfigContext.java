@@ -1,5 +1,8 @@
 package io.honeybadger.reporter.config;
 
+import io.honeybadger.reporter.spool.SpoolEvictionPolicy;
+import io.honeybadger.reporter.transport.ThrottlePolicy;
+
 import java.net.URI;
 import java.util.HashSet;
 import java.util.Objects;
@@ -36,6 +39,33 @@ public abstract class BaseChainedConfigContext implements ConfigContext {
     private String httpProxyHost;
     private Integer httpProxyPort;
     private Integer maximumErrorReportingRetries;
+    private Integer asyncQueueCapacity;
+    private Integer asyncSenderThreads;
+    private String spoolDirectory;
+    private Integer spoolSegmentSize;
+    private Long spoolMaxSize;
+    private SpoolEvictionPolicy spoolEvictionPolicy;
+    private Integer retryInitialDelay;
+    private Integer retryMaximumDelay;
+    private Integer deliveryDeadline;
+    private ThrottlePolicy throttlePolicy;
+    private Integer connectTimeout;
+    private Integer socketTimeout;
+    private Integer syncWaitTimeout;
+    private Integer aggregationWindow;
+    private Integer globalRateLimit;
+    private Integer globalRateLimitBurst;
+    private Integer classRateLimit;
+    private Integer classRateLimitBurst;
+    private Integer compressionLevel;
+    private Integer compressionThreshold;
+    private Integer statsInterval;
+    private Integer maxBacktraceFrames;
+    private Integer maxCauses;
+    private Integer maxCauseDepth;
+    private Integer maxCauseFrames;
+    private Set<String> excludedApplicationPackages = new HashSet<>();
+    private Boolean filterReportingAsync;
 
     /**
      * Constructor that prepopulates configuration context with the default
@@ -180,6 +210,275 @@ public abstract class BaseChainedConfigContext implements ConfigContext {
         return this;
     }
 
+    @Override
+    public Integer getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    public BaseChainedConfigContext setAsyncQueueCapacity(final Integer asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+        return this;
+    }
+
+    @Override
+    public Integer getAsyncSenderThreads() {
+        return asyncSenderThreads;
+    }
+
+    public BaseChainedConfigContext setAsyncSenderThreads(final Integer asyncSenderThreads) {
+        this.asyncSenderThreads = asyncSenderThreads;
+        return this;
+    }
+
+    @Override
+    public String getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public BaseChainedConfigContext setSpoolDirectory(final String spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+        return this;
+    }
+
+    @Override
+    public Integer getSpoolSegmentSize() {
+        return spoolSegmentSize;
+    }
+
+    public BaseChainedConfigContext setSpoolSegmentSize(final Integer spoolSegmentSize) {
+        this.spoolSegmentSize = spoolSegmentSize;
+        return this;
+    }
+
+    @Override
+    public Long getSpoolMaxSize() {
+        return spoolMaxSize;
+    }
+
+    public BaseChainedConfigContext setSpoolMaxSize(final Long spoolMaxSize) {
+        this.spoolMaxSize = spoolMaxSize;
+        return this;
+    }
+
+    @Override
+    public SpoolEvictionPolicy getSpoolEvictionPolicy() {
+        return spoolEvictionPolicy;
+    }
+
+    public BaseChainedConfigContext setSpoolEvictionPolicy(final SpoolEvictionPolicy spoolEvictionPolicy) {
+        this.spoolEvictionPolicy = spoolEvictionPolicy;
+        return this;
+    }
+
+    @Override
+    public Integer getRetryInitialDelay() {
+        return retryInitialDelay;
+    }
+
+    public BaseChainedConfigContext setRetryInitialDelay(final Integer retryInitialDelay) {
+        this.retryInitialDelay = retryInitialDelay;
+        return this;
+    }
+
+    @Override
+    public Integer getRetryMaximumDelay() {
+        return retryMaximumDelay;
+    }
+
+    public BaseChainedConfigContext setRetryMaximumDelay(final Integer retryMaximumDelay) {
+        this.retryMaximumDelay = retryMaximumDelay;
+        return this;
+    }
+
+    @Override
+    public Integer getDeliveryDeadline() {
+        return deliveryDeadline;
+    }
+
+    public BaseChainedConfigContext setDeliveryDeadline(final Integer deliveryDeadline) {
+        this.deliveryDeadline = deliveryDeadline;
+        return this;
+    }
+
+    @Override
+    public ThrottlePolicy getThrottlePolicy() {
+        return throttlePolicy;
+    }
+
+    public BaseChainedConfigContext setThrottlePolicy(final ThrottlePolicy throttlePolicy) {
+        this.throttlePolicy = throttlePolicy;
+        return this;
+    }
+
+    @Override
+    public Integer getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public BaseChainedConfigContext setConnectTimeout(final Integer connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    @Override
+    public Integer getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public BaseChainedConfigContext setSocketTimeout(final Integer socketTimeout) {
+        this.socketTimeout = socketTimeout;
+        return this;
+    }
+
+    @Override
+    public Integer getSyncWaitTimeout() {
+        return syncWaitTimeout;
+    }
+
+    public BaseChainedConfigContext setSyncWaitTimeout(final Integer syncWaitTimeout) {
+        this.syncWaitTimeout = syncWaitTimeout;
+        return this;
+    }
+
+    @Override
+    public Integer getAggregationWindow() {
+        return aggregationWindow;
+    }
+
+    public BaseChainedConfigContext setAggregationWindow(final Integer aggregationWindow) {
+        this.aggregationWindow = aggregationWindow;
+        return this;
+    }
+
+    @Override
+    public Integer getRateLimit() {
+        return globalRateLimit;
+    }
+
+    public BaseChainedConfigContext setRateLimit(final Integer globalRateLimit) {
+        this.globalRateLimit = globalRateLimit;
+        return this;
+    }
+
+    @Override
+    public Integer getRateLimitBurst() {
+        return globalRateLimitBurst;
+    }
+
+    public BaseChainedConfigContext setRateLimitBurst(final Integer globalRateLimitBurst) {
+        this.globalRateLimitBurst = globalRateLimitBurst;
+        return this;
+    }
+
+    @Override
+    public Integer getClassRateLimit() {
+        return classRateLimit;
+    }
+
+    public BaseChainedConfigContext setClassRateLimit(final Integer classRateLimit) {
+        this.classRateLimit = classRateLimit;
+        return this;
+    }
+
+    @Override
+    public Integer getClassRateLimitBurst() {
+        return classRateLimitBurst;
+    }
+
+    public BaseChainedConfigContext setClassRateLimitBurst(final Integer classRateLimitBurst) {
+        this.classRateLimitBurst = classRateLimitBurst;
+        return this;
+    }
+
+    @Override
+    public Integer getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public BaseChainedConfigContext setCompressionLevel(final Integer compressionLevel) {
+        this.compressionLevel = compressionLevel;
+        return this;
+    }
+
+    @Override
+    public Integer getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public BaseChainedConfigContext setCompressionThreshold(final Integer compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+        return this;
+    }
+
+    @Override
+    public Integer getStatsInterval() {
+        return statsInterval;
+    }
+
+    public BaseChainedConfigContext setStatsInterval(final Integer statsInterval) {
+        this.statsInterval = statsInterval;
+        return this;
+    }
+
+    @Override
+    public Integer getMaxBacktraceFrames() {
+        return maxBacktraceFrames;
+    }
+
+    public BaseChainedConfigContext setMaxBacktraceFrames(final Integer maxBacktraceFrames) {
+        this.maxBacktraceFrames = maxBacktraceFrames;
+        return this;
+    }
+
+    @Override
+    public Integer getMaxCauses() {
+        return maxCauses;
+    }
+
+    public BaseChainedConfigContext setMaxCauses(final Integer maxCauses) {
+        this.maxCauses = maxCauses;
+        return this;
+    }
+
+    @Override
+    public Integer getMaxCauseDepth() {
+        return maxCauseDepth;
+    }
+
+    public BaseChainedConfigContext setMaxCauseDepth(final Integer maxCauseDepth) {
+        this.maxCauseDepth = maxCauseDepth;
+        return this;
+    }
+
+    @Override
+    public Integer getMaxCauseFrames() {
+        return maxCauseFrames;
+    }
+
+    public BaseChainedConfigContext setMaxCauseFrames(final Integer maxCauseFrames) {
+        this.maxCauseFrames = maxCauseFrames;
+        return this;
+    }
+
+    @Override
+    public Set<String> getExcludedApplicationPackages() {
+        return excludedApplicationPackages;
+    }
+
+    public BaseChainedConfigContext setExcludedApplicationPackages(final Set<String> excludedApplicationPackages) {
+        this.excludedApplicationPackages = excludedApplicationPackages;
+        return this;
+    }
+
+    @Override
+    public Boolean isFilterReportingAsync() {
+        return filterReportingAsync;
+    }
+
+    public BaseChainedConfigContext setFilterReportingAsync(final Boolean filterReportingAsync) {
+        this.filterReportingAsync = filterReportingAsync;
+        return this;
+    }
 
     /**
      * Overwrites the configuration values with the values of the passed context
@@ -235,9 +534,125 @@ public abstract class BaseChainedConfigContext implements ConfigContext {
             this.feedbackFormPath = context.getFeedbackFormPath();
         }
 
+        if (isPresent(context.getHttpProxyHost())) {
+            this.httpProxyHost = context.getHttpProxyHost();
+        }
+
+        if (context.getHttpProxyPort() != null) {
+            this.httpProxyPort = context.getHttpProxyPort();
+        }
+
         if (context.getMaximumErrorReportingRetries() != null) {
             this.maximumErrorReportingRetries = context.getMaximumErrorReportingRetries();
         }
+
+        if (context.getAsyncQueueCapacity() != null) {
+            this.asyncQueueCapacity = context.getAsyncQueueCapacity();
+        }
+
+        if (context.getAsyncSenderThreads() != null) {
+            this.asyncSenderThreads = context.getAsyncSenderThreads();
+        }
+
+        if (isPresent(context.getSpoolDirectory())) {
+            this.spoolDirectory = context.getSpoolDirectory();
+        }
+
+        if (context.getSpoolSegmentSize() != null) {
+            this.spoolSegmentSize = context.getSpoolSegmentSize();
+        }
+
+        if (context.getSpoolMaxSize() != null) {
+            this.spoolMaxSize = context.getSpoolMaxSize();
+        }
+
+        if (context.getSpoolEvictionPolicy() != null) {
+            this.spoolEvictionPolicy = context.getSpoolEvictionPolicy();
+        }
+
+        if (context.getRetryInitialDelay() != null) {
+            this.retryInitialDelay = context.getRetryInitialDelay();
+        }
+
+        if (context.getRetryMaximumDelay() != null) {
+            this.retryMaximumDelay = context.getRetryMaximumDelay();
+        }
+
+        if (context.getDeliveryDeadline() != null) {
+            this.deliveryDeadline = context.getDeliveryDeadline();
+        }
+
+        if (context.getThrottlePolicy() != null) {
+            this.throttlePolicy = context.getThrottlePolicy();
+        }
+
+        if (context.getConnectTimeout() != null) {
+            this.connectTimeout = context.getConnectTimeout();
+        }
+
+        if (context.getSocketTimeout() != null) {
+            this.socketTimeout = context.getSocketTimeout();
+        }
+
+        if (context.getSyncWaitTimeout() != null) {
+            this.syncWaitTimeout = context.getSyncWaitTimeout();
+        }
+
+        if (context.getAggregationWindow() != null) {
+            this.aggregationWindow = context.getAggregationWindow();
+        }
+
+        if (context.getRateLimit() != null) {
+            this.globalRateLimit = context.getRateLimit();
+        }
+
+        if (context.getRateLimitBurst() != null) {
+            this.globalRateLimitBurst = context.getRateLimitBurst();
+        }
+
+        if (context.getClassRateLimit() != null) {
+            this.classRateLimit = context.getClassRateLimit();
+        }
+
+        if (context.getClassRateLimitBurst() != null) {
+            this.classRateLimitBurst = context.getClassRateLimitBurst();
+        }
+
+        if (context.getCompressionLevel() != null) {
+            this.compressionLevel = context.getCompressionLevel();
+        }
+
+        if (context.getCompressionThreshold() != null) {
+            this.compressionThreshold = context.getCompressionThreshold();
+        }
+
+        if (context.getStatsInterval() != null) {
+            this.statsInterval = context.getStatsInterval();
+        }
+
+        if (context.getMaxBacktraceFrames() != null) {
+            this.maxBacktraceFrames = context.getMaxBacktraceFrames();
+        }
+
+        if (context.getMaxCauses() != null) {
+            this.maxCauses = context.getMaxCauses();
+        }
+
+        if (context.getMaxCauseDepth() != null) {
+            this.maxCauseDepth = context.getMaxCauseDepth();
+        }
+
+        if (context.getMaxCauseFrames() != null) {
+            this.maxCauseFrames = context.getMaxCauseFrames();
+        }
+
+        if (isPresent(context.getExcludedApplicationPackages())) {
+            this.excludedApplicationPackages = context.getExcludedApplicationPackages();
+        }
+
+        if (context.isFilterReportingAsync() != null) {
+            this.filterReportingAsync = context.isFilterReportingAsync();
+        }
     }
 
     @SuppressWarnings("HiddenField")
@@ -268,7 +683,34 @@ public abstract class BaseChainedConfigContext implements ConfigContext {
                 Objects.equals(feedbackFormPath, that.feedbackFormPath) &&
                 Objects.equals(httpProxyHost, that.httpProxyHost) &&
                 Objects.equals(httpProxyPort, that.httpProxyPort) &&
-                Objects.equals(maximumErrorReportingRetries, that.maximumErrorReportingRetries);
+                Objects.equals(maximumErrorReportingRetries, that.maximumErrorReportingRetries) &&
+                Objects.equals(asyncQueueCapacity, that.asyncQueueCapacity) &&
+                Objects.equals(asyncSenderThreads, that.asyncSenderThreads) &&
+                Objects.equals(spoolDirectory, that.spoolDirectory) &&
+                Objects.equals(spoolSegmentSize, that.spoolSegmentSize) &&
+                Objects.equals(spoolMaxSize, that.spoolMaxSize) &&
+                Objects.equals(spoolEvictionPolicy, that.spoolEvictionPolicy) &&
+                Objects.equals(retryInitialDelay, that.retryInitialDelay) &&
+                Objects.equals(retryMaximumDelay, that.retryMaximumDelay) &&
+                Objects.equals(deliveryDeadline, that.deliveryDeadline) &&
+                Objects.equals(throttlePolicy, that.throttlePolicy) &&
+                Objects.equals(connectTimeout, that.connectTimeout) &&
+                Objects.equals(socketTimeout, that.socketTimeout) &&
+                Objects.equals(syncWaitTimeout, that.syncWaitTimeout) &&
+                Objects.equals(aggregationWindow, that.aggregationWindow) &&
+                Objects.equals(globalRateLimit, that.globalRateLimit) &&
+                Objects.equals(globalRateLimitBurst, that.globalRateLimitBurst) &&
+                Objects.equals(classRateLimit, that.classRateLimit) &&
+                Objects.equals(classRateLimitBurst, that.classRateLimitBurst) &&
+                Objects.equals(compressionLevel, that.compressionLevel) &&
+                Objects.equals(compressionThreshold, that.compressionThreshold) &&
+                Objects.equals(statsInterval, that.statsInterval) &&
+                Objects.equals(maxBacktraceFrames, that.maxBacktraceFrames) &&
+                Objects.equals(maxCauses, that.maxCauses) &&
+                Objects.equals(maxCauseDepth, that.maxCauseDepth) &&
+                Objects.equals(maxCauseFrames, that.maxCauseFrames) &&
+                Objects.equals(excludedApplicationPackages, that.excludedApplicationPackages) &&
+                Objects.equals(filterReportingAsync, that.filterReportingAsync);
     }
 
     @Override
@@ -287,6 +729,33 @@ public abstract class BaseChainedConfigContext implements ConfigContext {
                 ", httpProxyHost='" + httpProxyHost + '\'' +
                 ", httpProxyPort=" + httpProxyPort +
                 ", maximumErrorReportingRetries=" + maximumErrorReportingRetries +
+                ", asyncQueueCapacity=" + asyncQueueCapacity +
+                ", asyncSenderThreads=" + asyncSenderThreads +
+                ", spoolDirectory=" + spoolDirectory +
+                ", spoolSegmentSize=" + spoolSegmentSize +
+                ", spoolMaxSize=" + spoolMaxSize +
+                ", spoolEvictionPolicy=" + spoolEvictionPolicy +
+                ", retryInitialDelay=" + retryInitialDelay +
+                ", retryMaximumDelay=" + retryMaximumDelay +
+                ", deliveryDeadline=" + deliveryDeadline +
+                ", throttlePolicy=" + throttlePolicy +
+                ", connectTimeout=" + connectTimeout +
+                ", socketTimeout=" + socketTimeout +
+                ", syncWaitTimeout=" + syncWaitTimeout +
+                ", aggregationWindow=" + aggregationWindow +
+                ", globalRateLimit=" + globalRateLimit +
+                ", globalRateLimitBurst=" + globalRateLimitBurst +
+                ", classRateLimit=" + classRateLimit +
+                ", classRateLimitBurst=" + classRateLimitBurst +
+                ", compressionLevel=" + compressionLevel +
+                ", compressionThreshold=" + compressionThreshold +
+                ", statsInterval=" + statsInterval +
+                ", maxBacktraceFrames=" + maxBacktraceFrames +
+                ", maxCauses=" + maxCauses +
+                ", maxCauseDepth=" + maxCauseDepth +
+                ", maxCauseFrames=" + maxCauseFrames +
+                ", excludedApplicationPackages=" + excludedApplicationPackages +
+                ", filterReportingAsync=" + filterReportingAsync +
                 '}';
     }
 
@@ -294,7 +763,14 @@ public abstract class BaseChainedConfigContext implements ConfigContext {
     public int hashCode() {
         return Objects.hash(environment, honeybadgerUrl, apiKey, excludedSysProps, excludedParams,
                 excludedClasses, applicationPackage, honeybadgerReadApiKey, feedbackFormDisplayed,
-                feedbackFormPath, httpProxyHost, httpProxyPort, maximumErrorReportingRetries);
+                feedbackFormPath, httpProxyHost, httpProxyPort, maximumErrorReportingRetries,
+                asyncQueueCapacity, asyncSenderThreads, spoolDirectory, spoolSegmentSize,
+                spoolMaxSize, spoolEvictionPolicy, retryInitialDelay, retryMaximumDelay,
+                deliveryDeadline, throttlePolicy, connectTimeout, socketTimeout, syncWaitTimeout,
+                aggregationWindow, globalRateLimit, globalRateLimitBurst, classRateLimit,
+                classRateLimitBurst, compressionLevel, compressionThreshold, statsInterval,
+                maxBacktraceFrames, maxCauses, maxCauseDepth, maxCauseFrames,
+                excludedApplicationPackages, filterReportingAsync);
     }
 
     protected Boolean getFeedbackFormDisplayed() {
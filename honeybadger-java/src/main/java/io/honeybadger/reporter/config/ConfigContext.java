@@ -1,12 +1,20 @@
 package io.honeybadger.reporter.config;
 
+import io.honeybadger.reporter.spool.SpoolEvictionPolicy;
+import io.honeybadger.reporter.transport.ThrottlePolicy;
+
 import java.net.URI;
+import java.util.HashSet;
 import java.util.Set;
 
 /**
  * Interface defining the common properties needed to configure a
  * {@link io.honeybadger.reporter.NoticeReporter}.
  *
+ * <p>Properties added in 2.0.1 have default methods that return the
+ * values of {@link DefaultsConfigContext}, so that existing implementations
+ * keep working without changes.</p>
+ *
  * @author <a href="https://github.com/dekobon">Elijah Zupancic</a>
  * @since 1.0.10
  */
@@ -50,4 +58,151 @@ public interface ConfigContext {
     /** @return Optional configuration parameter to adjust number of attempts to retry sending an error
      * report in the event of a network timeout or other transmission exception. Defaults to 3. */
     Integer getMaximumErrorReportingRetries();
+
+    /** @return Maximum number of notices an asynchronous reporter will hold in memory
+     * while waiting to send them. Notices reported while the queue is full are dropped. */
+    default Integer getAsyncQueueCapacity() {
+        return DefaultsConfigContext.DEFAULT_ASYNC_QUEUE_CAPACITY;
+    }
+
+    /** @return Number of background threads an asynchronous reporter uses to send notices */
+    default Integer getAsyncSenderThreads() {
+        return DefaultsConfigContext.DEFAULT_ASYNC_SENDER_THREADS;
+    }
+
+    /** @return Directory in which notices that couldn't be delivered are spooled.
+     * Spooling is disabled when null. */
+    default String getSpoolDirectory() {
+        return null;
+    }
+
+    /** @return Size in bytes of each spool segment file */
+    default Integer getSpoolSegmentSize() {
+        return DefaultsConfigContext.DEFAULT_SPOOL_SEGMENT_SIZE;
+    }
+
+    /** @return Maximum number of bytes of disk used by the spool */
+    default Long getSpoolMaxSize() {
+        return DefaultsConfigContext.DEFAULT_SPOOL_MAX_SIZE;
+    }
+
+    /** @return What to do when the spool's disk budget is exhausted */
+    default SpoolEvictionPolicy getSpoolEvictionPolicy() {
+        return DefaultsConfigContext.DEFAULT_SPOOL_EVICTION_POLICY;
+    }
+
+    /** @return Upper bound in milliseconds of the delay before the first retry */
+    default Integer getRetryInitialDelay() {
+        return DefaultsConfigContext.DEFAULT_RETRY_INITIAL_DELAY;
+    }
+
+    /** @return Upper bound in milliseconds of the delay between any two retries */
+    default Integer getRetryMaximumDelay() {
+        return DefaultsConfigContext.DEFAULT_RETRY_MAXIMUM_DELAY;
+    }
+
+    /** @return Maximum number of milliseconds spent delivering a notice, including retries */
+    default Integer getDeliveryDeadline() {
+        return DefaultsConfigContext.DEFAULT_DELIVERY_DEADLINE;
+    }
+
+    /** @return What happens to notices while the API has asked us to pause sending */
+    default ThrottlePolicy getThrottlePolicy() {
+        return DefaultsConfigContext.DEFAULT_THROTTLE_POLICY;
+    }
+
+    /** @return Milliseconds to wait for a connection to the Honeybadger API */
+    default Integer getConnectTimeout() {
+        return DefaultsConfigContext.DEFAULT_CONNECT_TIMEOUT;
+    }
+
+    /** @return Milliseconds to wait for data from the Honeybadger API */
+    default Integer getSocketTimeout() {
+        return DefaultsConfigContext.DEFAULT_SOCKET_TIMEOUT;
+    }
+
+    /** @return Maximum milliseconds a synchronous reportError call waits for delivery */
+    default Integer getSyncWaitTimeout() {
+        return DefaultsConfigContext.DEFAULT_SYNC_WAIT_TIMEOUT;
+    }
+
+    /** @return Milliseconds during which identical errors are coalesced, 0 disables aggregation */
+    default Integer getAggregationWindow() {
+        return DefaultsConfigContext.DEFAULT_AGGREGATION_WINDOW;
+    }
+
+    /** @return Maximum errors per second reported across all classes, 0 disables the limit */
+    default Integer getRateLimit() {
+        return DefaultsConfigContext.DEFAULT_RATE_LIMIT;
+    }
+
+    /** @return Errors that may be reported at once across all classes, 0 uses the per second limit */
+    default Integer getRateLimitBurst() {
+        return DefaultsConfigContext.DEFAULT_RATE_LIMIT_BURST;
+    }
+
+    /** @return Maximum errors per second reported per exception class, 0 disables the limit */
+    default Integer getClassRateLimit() {
+        return DefaultsConfigContext.DEFAULT_CLASS_RATE_LIMIT;
+    }
+
+    /** @return Errors that may be reported at once per exception class, 0 uses the per second limit */
+    default Integer getClassRateLimitBurst() {
+        return DefaultsConfigContext.DEFAULT_CLASS_RATE_LIMIT_BURST;
+    }
+
+    /** @return Gzip compression level of notice payloads from 1 to 9, or 0 to send them uncompressed */
+    default Integer getCompressionLevel() {
+        return DefaultsConfigContext.DEFAULT_COMPRESSION_LEVEL;
+    }
+
+    /** @return Size in bytes below which notice payloads are sent uncompressed */
+    default Integer getCompressionThreshold() {
+        return DefaultsConfigContext.DEFAULT_COMPRESSION_THRESHOLD;
+    }
+
+    /** @return Milliseconds between samples of host memory and load statistics, 0 reads them for every notice */
+    default Integer getStatsInterval() {
+        return DefaultsConfigContext.DEFAULT_STATS_INTERVAL;
+    }
+
+    /** @return Maximum number of frames reported for each backtrace, 0 for no limit */
+    default Integer getMaxBacktraceFrames() {
+        return DefaultsConfigContext.DEFAULT_MAX_BACKTRACE_FRAMES;
+    }
+
+    /** @return Maximum number of causes and suppressed errors reported, 0 for no limit */
+    default Integer getMaxCauses() {
+        return DefaultsConfigContext.DEFAULT_MAX_CAUSES;
+    }
+
+    /** @return Maximum depth of the reported cause graph, 0 for no limit */
+    default Integer getMaxCauseDepth() {
+        return DefaultsConfigContext.DEFAULT_MAX_CAUSE_DEPTH;
+    }
+
+    /** @return Cause frames after which no more causes are reported, 0 for no limit */
+    default Integer getMaxCauseFrames() {
+        return DefaultsConfigContext.DEFAULT_MAX_CAUSE_FRAMES;
+    }
+
+    /** @return Package prefixes whose frames are never application frames */
+    default Set<String> getExcludedApplicationPackages() {
+        return new HashSet<>();
+    }
+
+    /** @return True if HoneybadgerFilter renders the error page before the error is delivered */
+    default Boolean isFilterReportingAsync() {
+        return DefaultsConfigContext.DEFAULT_FILTER_REPORTING_ASYNC;
+    }
+
+    /**
+     * Takes an immutable snapshot of this context, with every value read
+     * once, for reading on the reporting path.
+     *
+     * @return snapshot of this context
+     */
+    default ConfigContext freeze() {
+        return FrozenConfigContext.of(this);
+    }
 }
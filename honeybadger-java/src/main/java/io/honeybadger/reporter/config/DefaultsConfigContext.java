@@ -1,5 +1,8 @@
 package io.honeybadger.reporter.config;
 
+import io.honeybadger.reporter.spool.SpoolEvictionPolicy;
+import io.honeybadger.reporter.transport.ThrottlePolicy;
+
 import java.net.URI;
 import java.util.HashSet;
 import java.util.Set;
@@ -35,6 +38,57 @@ public class DefaultsConfigContext implements ConfigContext {
 
     public static final Integer DEFAULT_MAXIMUM_ERROR_REPORTING_RETRIES = 3;
 
+    public static final Integer DEFAULT_ASYNC_QUEUE_CAPACITY = 1000;
+
+    public static final Integer DEFAULT_ASYNC_SENDER_THREADS = 2;
+
+    public static final Integer DEFAULT_SPOOL_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    public static final Long DEFAULT_SPOOL_MAX_SIZE = 64L * 1024L * 1024L;
+
+    public static final SpoolEvictionPolicy DEFAULT_SPOOL_EVICTION_POLICY =
+            SpoolEvictionPolicy.DROP_OLDEST;
+
+    public static final Integer DEFAULT_RETRY_INITIAL_DELAY = 500;
+
+    public static final Integer DEFAULT_RETRY_MAXIMUM_DELAY = 30_000;
+
+    public static final Integer DEFAULT_DELIVERY_DEADLINE = 120_000;
+
+    public static final ThrottlePolicy DEFAULT_THROTTLE_POLICY = ThrottlePolicy.HOLD;
+
+    public static final Integer DEFAULT_CONNECT_TIMEOUT = 5_000;
+
+    public static final Integer DEFAULT_SOCKET_TIMEOUT = 10_000;
+
+    public static final Integer DEFAULT_SYNC_WAIT_TIMEOUT = 5_000;
+
+    public static final Integer DEFAULT_AGGREGATION_WINDOW = 0;
+
+    public static final Integer DEFAULT_RATE_LIMIT = 0;
+
+    public static final Integer DEFAULT_RATE_LIMIT_BURST = 0;
+
+    public static final Integer DEFAULT_CLASS_RATE_LIMIT = 0;
+
+    public static final Integer DEFAULT_CLASS_RATE_LIMIT_BURST = 0;
+
+    public static final Integer DEFAULT_COMPRESSION_LEVEL = 0;
+
+    public static final Integer DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    public static final Integer DEFAULT_STATS_INTERVAL = 1000;
+
+    public static final Integer DEFAULT_MAX_BACKTRACE_FRAMES = 500;
+
+    public static final Integer DEFAULT_MAX_CAUSES = 100;
+
+    public static final Integer DEFAULT_MAX_CAUSE_DEPTH = 25;
+
+    public static final Integer DEFAULT_MAX_CAUSE_FRAMES = 2000;
+
+    public static final Boolean DEFAULT_FILTER_REPORTING_ASYNC = false;
+
     public DefaultsConfigContext() {
     }
 
@@ -112,4 +166,139 @@ public class DefaultsConfigContext implements ConfigContext {
     public Integer getMaximumErrorReportingRetries() {
         return DEFAULT_MAXIMUM_ERROR_REPORTING_RETRIES;
     }
+
+    @Override
+    public Integer getAsyncQueueCapacity() {
+        return DEFAULT_ASYNC_QUEUE_CAPACITY;
+    }
+
+    @Override
+    public Integer getAsyncSenderThreads() {
+        return DEFAULT_ASYNC_SENDER_THREADS;
+    }
+
+    @Override
+    public String getSpoolDirectory() {
+        return null;
+    }
+
+    @Override
+    public Integer getSpoolSegmentSize() {
+        return DEFAULT_SPOOL_SEGMENT_SIZE;
+    }
+
+    @Override
+    public Long getSpoolMaxSize() {
+        return DEFAULT_SPOOL_MAX_SIZE;
+    }
+
+    @Override
+    public SpoolEvictionPolicy getSpoolEvictionPolicy() {
+        return DEFAULT_SPOOL_EVICTION_POLICY;
+    }
+
+    @Override
+    public Integer getRetryInitialDelay() {
+        return DEFAULT_RETRY_INITIAL_DELAY;
+    }
+
+    @Override
+    public Integer getRetryMaximumDelay() {
+        return DEFAULT_RETRY_MAXIMUM_DELAY;
+    }
+
+    @Override
+    public Integer getDeliveryDeadline() {
+        return DEFAULT_DELIVERY_DEADLINE;
+    }
+
+    @Override
+    public ThrottlePolicy getThrottlePolicy() {
+        return DEFAULT_THROTTLE_POLICY;
+    }
+
+    @Override
+    public Integer getConnectTimeout() {
+        return DEFAULT_CONNECT_TIMEOUT;
+    }
+
+    @Override
+    public Integer getSocketTimeout() {
+        return DEFAULT_SOCKET_TIMEOUT;
+    }
+
+    @Override
+    public Integer getSyncWaitTimeout() {
+        return DEFAULT_SYNC_WAIT_TIMEOUT;
+    }
+
+    @Override
+    public Integer getAggregationWindow() {
+        return DEFAULT_AGGREGATION_WINDOW;
+    }
+
+    @Override
+    public Integer getRateLimit() {
+        return DEFAULT_RATE_LIMIT;
+    }
+
+    @Override
+    public Integer getRateLimitBurst() {
+        return DEFAULT_RATE_LIMIT_BURST;
+    }
+
+    @Override
+    public Integer getClassRateLimit() {
+        return DEFAULT_CLASS_RATE_LIMIT;
+    }
+
+    @Override
+    public Integer getClassRateLimitBurst() {
+        return DEFAULT_CLASS_RATE_LIMIT_BURST;
+    }
+
+    @Override
+    public Integer getCompressionLevel() {
+        return DEFAULT_COMPRESSION_LEVEL;
+    }
+
+    @Override
+    public Integer getCompressionThreshold() {
+        return DEFAULT_COMPRESSION_THRESHOLD;
+    }
+
+    @Override
+    public Integer getStatsInterval() {
+        return DEFAULT_STATS_INTERVAL;
+    }
+
+    @Override
+    public Integer getMaxBacktraceFrames() {
+        return DEFAULT_MAX_BACKTRACE_FRAMES;
+    }
+
+    @Override
+    public Integer getMaxCauses() {
+        return DEFAULT_MAX_CAUSES;
+    }
+
+    @Override
+    public Integer getMaxCauseDepth() {
+        return DEFAULT_MAX_CAUSE_DEPTH;
+    }
+
+    @Override
+    public Integer getMaxCauseFrames() {
+        return DEFAULT_MAX_CAUSE_FRAMES;
+    }
+
+    @Override
+    public Set<String> getExcludedApplicationPackages() {
+        return new HashSet<>();
+    }
+
+    @Override
+    public Boolean isFilterReportingAsync() {
+        return DEFAULT_FILTER_REPORTING_ASYNC;
+    }
 }
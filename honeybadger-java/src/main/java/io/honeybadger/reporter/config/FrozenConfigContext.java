@@ -0,0 +1,417 @@
+package io.honeybadger.reporter.config;
+
+import io.honeybadger.reporter.spool.SpoolEvictionPolicy;
+import io.honeybadger.reporter.transport.NoticeTransport;
+import io.honeybadger.reporter.transport.ThrottlePolicy;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of a {@link ConfigContext}. Every value is read from the
+ * source context once when the snapshot is taken: numbers are parsed, sets
+ * are copied into unmodifiable sets and the notices URI is resolved, so
+ * reading the configuration while reporting an error costs no more than a
+ * field access. Reporters take a snapshot of the context they are created
+ * with, so changes made to that context afterwards have no effect on them.
+ *
+ * @see ConfigContext#freeze()
+ * @since 2.0.1
+ */
+public final class FrozenConfigContext implements ConfigContext {
+    private final String environment;
+    private final URI honeybadgerUrl;
+    private final String apiKey;
+    private final Set<String> excludedSysProps;
+    private final Set<String> excludedParams;
+    private final Set<String> excludedClasses;
+    private final String applicationPackage;
+    private final String honeybadgerReadApiKey;
+    private final Boolean feedbackFormDisplayed;
+    private final String feedbackFormPath;
+    private final String httpProxyHost;
+    private final Integer httpProxyPort;
+    private final Integer maximumErrorReportingRetries;
+    private final Integer asyncQueueCapacity;
+    private final Integer asyncSenderThreads;
+    private final String spoolDirectory;
+    private final Integer spoolSegmentSize;
+    private final Long spoolMaxSize;
+    private final SpoolEvictionPolicy spoolEvictionPolicy;
+    private final Integer retryInitialDelay;
+    private final Integer retryMaximumDelay;
+    private final Integer deliveryDeadline;
+    private final ThrottlePolicy throttlePolicy;
+    private final Integer connectTimeout;
+    private final Integer socketTimeout;
+    private final Integer syncWaitTimeout;
+    private final Integer aggregationWindow;
+    private final Integer rateLimit;
+    private final Integer rateLimitBurst;
+    private final Integer classRateLimit;
+    private final Integer classRateLimitBurst;
+    private final Integer compressionLevel;
+    private final Integer compressionThreshold;
+    private final Integer statsInterval;
+    private final Integer maxBacktraceFrames;
+    private final Integer maxCauses;
+    private final Integer maxCauseDepth;
+    private final Integer maxCauseFrames;
+    private final Set<String> excludedApplicationPackages;
+    private final Boolean filterReportingAsync;
+    private final URI noticesUri;
+
+    private FrozenConfigContext(final ConfigContext context) {
+        this.environment = context.getEnvironment();
+        this.honeybadgerUrl = context.getHoneybadgerUrl();
+        this.apiKey = context.getApiKey();
+        this.excludedSysProps = freeze(context.getExcludedSysProps());
+        this.excludedParams = freeze(context.getExcludedParams());
+        this.excludedClasses = freeze(context.getExcludedClasses());
+        this.applicationPackage = context.getApplicationPackage();
+        this.honeybadgerReadApiKey = context.getHoneybadgerReadApiKey();
+        this.feedbackFormDisplayed = context.isFeedbackFormDisplayed();
+        this.feedbackFormPath = context.getFeedbackFormPath();
+        this.httpProxyHost = context.getHttpProxyHost();
+        this.httpProxyPort = context.getHttpProxyPort();
+        this.maximumErrorReportingRetries = context.getMaximumErrorReportingRetries();
+        this.asyncQueueCapacity = context.getAsyncQueueCapacity();
+        this.asyncSenderThreads = context.getAsyncSenderThreads();
+        this.spoolDirectory = context.getSpoolDirectory();
+        this.spoolSegmentSize = context.getSpoolSegmentSize();
+        this.spoolMaxSize = context.getSpoolMaxSize();
+        this.spoolEvictionPolicy = context.getSpoolEvictionPolicy();
+        this.retryInitialDelay = context.getRetryInitialDelay();
+        this.retryMaximumDelay = context.getRetryMaximumDelay();
+        this.deliveryDeadline = context.getDeliveryDeadline();
+        this.throttlePolicy = context.getThrottlePolicy();
+        this.connectTimeout = context.getConnectTimeout();
+        this.socketTimeout = context.getSocketTimeout();
+        this.syncWaitTimeout = context.getSyncWaitTimeout();
+        this.aggregationWindow = context.getAggregationWindow();
+        this.rateLimit = context.getRateLimit();
+        this.rateLimitBurst = context.getRateLimitBurst();
+        this.classRateLimit = context.getClassRateLimit();
+        this.classRateLimitBurst = context.getClassRateLimitBurst();
+        this.compressionLevel = context.getCompressionLevel();
+        this.compressionThreshold = context.getCompressionThreshold();
+        this.statsInterval = context.getStatsInterval();
+        this.maxBacktraceFrames = context.getMaxBacktraceFrames();
+        this.maxCauses = context.getMaxCauses();
+        this.maxCauseDepth = context.getMaxCauseDepth();
+        this.maxCauseFrames = context.getMaxCauseFrames();
+        this.excludedApplicationPackages = freeze(context.getExcludedApplicationPackages());
+        this.filterReportingAsync = context.isFilterReportingAsync();
+        this.noticesUri = honeybadgerUrl == null ?
+                null : URI.create(String.format("%s/%s", honeybadgerUrl, NoticeTransport.NOTICES_PATH));
+    }
+
+    /**
+     * Takes a snapshot of a context.
+     *
+     * @param context context to read the values from
+     * @return snapshot of the context, or the context itself if it already is a snapshot
+     */
+    public static FrozenConfigContext of(final ConfigContext context) {
+        if (context instanceof FrozenConfigContext) {
+            return (FrozenConfigContext) context;
+        }
+
+        return new FrozenConfigContext(context);
+    }
+
+    private static Set<String> freeze(final Set<String> values) {
+        if (values == null) {
+            return null;
+        }
+
+        return Collections.unmodifiableSet(new HashSet<>(values));
+    }
+
+    @Override
+    public FrozenConfigContext freeze() {
+        return this;
+    }
+
+    /**
+     * @return URI of the Honeybadger notices endpoint or null if there is no Honeybadger URL
+     */
+    public URI getNoticesUri() {
+        return noticesUri;
+    }
+
+    @Override
+    public String getEnvironment() {
+        return environment;
+    }
+
+    @Override
+    public URI getHoneybadgerUrl() {
+        return honeybadgerUrl;
+    }
+
+    @Override
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    @Override
+    public Set<String> getExcludedSysProps() {
+        return excludedSysProps;
+    }
+
+    @Override
+    public Set<String> getExcludedParams() {
+        return excludedParams;
+    }
+
+    @Override
+    public Set<String> getExcludedClasses() {
+        return excludedClasses;
+    }
+
+    @Override
+    public String getApplicationPackage() {
+        return applicationPackage;
+    }
+
+    @Override
+    public String getHoneybadgerReadApiKey() {
+        return honeybadgerReadApiKey;
+    }
+
+    @Override
+    public Boolean isFeedbackFormDisplayed() {
+        return feedbackFormDisplayed;
+    }
+
+    @Override
+    public String getFeedbackFormPath() {
+        return feedbackFormPath;
+    }
+
+    @Override
+    public String getHttpProxyHost() {
+        return httpProxyHost;
+    }
+
+    @Override
+    public Integer getHttpProxyPort() {
+        return httpProxyPort;
+    }
+
+    @Override
+    public Integer getMaximumErrorReportingRetries() {
+        return maximumErrorReportingRetries;
+    }
+
+    @Override
+    public Integer getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    @Override
+    public Integer getAsyncSenderThreads() {
+        return asyncSenderThreads;
+    }
+
+    @Override
+    public String getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    @Override
+    public Integer getSpoolSegmentSize() {
+        return spoolSegmentSize;
+    }
+
+    @Override
+    public Long getSpoolMaxSize() {
+        return spoolMaxSize;
+    }
+
+    @Override
+    public SpoolEvictionPolicy getSpoolEvictionPolicy() {
+        return spoolEvictionPolicy;
+    }
+
+    @Override
+    public Integer getRetryInitialDelay() {
+        return retryInitialDelay;
+    }
+
+    @Override
+    public Integer getRetryMaximumDelay() {
+        return retryMaximumDelay;
+    }
+
+    @Override
+    public Integer getDeliveryDeadline() {
+        return deliveryDeadline;
+    }
+
+    @Override
+    public ThrottlePolicy getThrottlePolicy() {
+        return throttlePolicy;
+    }
+
+    @Override
+    public Integer getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    @Override
+    public Integer getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    @Override
+    public Integer getSyncWaitTimeout() {
+        return syncWaitTimeout;
+    }
+
+    @Override
+    public Integer getAggregationWindow() {
+        return aggregationWindow;
+    }
+
+    @Override
+    public Integer getRateLimit() {
+        return rateLimit;
+    }
+
+    @Override
+    public Integer getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    @Override
+    public Integer getClassRateLimit() {
+        return classRateLimit;
+    }
+
+    @Override
+    public Integer getClassRateLimitBurst() {
+        return classRateLimitBurst;
+    }
+
+    @Override
+    public Integer getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    @Override
+    public Integer getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    @Override
+    public Integer getStatsInterval() {
+        return statsInterval;
+    }
+
+    @Override
+    public Integer getMaxBacktraceFrames() {
+        return maxBacktraceFrames;
+    }
+
+    @Override
+    public Integer getMaxCauses() {
+        return maxCauses;
+    }
+
+    @Override
+    public Integer getMaxCauseDepth() {
+        return maxCauseDepth;
+    }
+
+    @Override
+    public Integer getMaxCauseFrames() {
+        return maxCauseFrames;
+    }
+
+    @Override
+    public Set<String> getExcludedApplicationPackages() {
+        return excludedApplicationPackages;
+    }
+
+    @Override
+    public Boolean isFilterReportingAsync() {
+        return filterReportingAsync;
+    }
+
+    private Object[] values() {
+        return new Object[] {
+                environment, honeybadgerUrl, apiKey, excludedSysProps, excludedParams,
+                excludedClasses, applicationPackage, honeybadgerReadApiKey, feedbackFormDisplayed,
+                feedbackFormPath, httpProxyHost, httpProxyPort, maximumErrorReportingRetries,
+                asyncQueueCapacity, asyncSenderThreads, spoolDirectory, spoolSegmentSize,
+                spoolMaxSize, spoolEvictionPolicy, retryInitialDelay, retryMaximumDelay,
+                deliveryDeadline, throttlePolicy, connectTimeout, socketTimeout, syncWaitTimeout,
+                aggregationWindow, rateLimit, rateLimitBurst, classRateLimit, classRateLimitBurst,
+                compressionLevel, compressionThreshold, statsInterval, maxBacktraceFrames,
+                maxCauses, maxCauseDepth, maxCauseFrames, excludedApplicationPackages,
+                filterReportingAsync
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FrozenConfigContext that = (FrozenConfigContext) o;
+        return Arrays.equals(values(), that.values());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values());
+    }
+
+    @Override
+    public String toString() {
+        return "FrozenConfigContext{" +
+                "environment=" + environment +
+                ", honeybadgerUrl=" + honeybadgerUrl +
+                ", excludedSysProps=" + excludedSysProps +
+                ", excludedParams=" + excludedParams +
+                ", excludedClasses=" + excludedClasses +
+                ", applicationPackage=" + applicationPackage +
+                ", feedbackFormDisplayed=" + feedbackFormDisplayed +
+                ", feedbackFormPath=" + feedbackFormPath +
+                ", httpProxyHost=" + httpProxyHost +
+                ", httpProxyPort=" + httpProxyPort +
+                ", maximumErrorReportingRetries=" + maximumErrorReportingRetries +
+                ", asyncQueueCapacity=" + asyncQueueCapacity +
+                ", asyncSenderThreads=" + asyncSenderThreads +
+                ", spoolDirectory=" + spoolDirectory +
+                ", spoolSegmentSize=" + spoolSegmentSize +
+                ", spoolMaxSize=" + spoolMaxSize +
+                ", spoolEvictionPolicy=" + spoolEvictionPolicy +
+                ", retryInitialDelay=" + retryInitialDelay +
+                ", retryMaximumDelay=" + retryMaximumDelay +
+                ", deliveryDeadline=" + deliveryDeadline +
+                ", throttlePolicy=" + throttlePolicy +
+                ", connectTimeout=" + connectTimeout +
+                ", socketTimeout=" + socketTimeout +
+                ", syncWaitTimeout=" + syncWaitTimeout +
+                ", aggregationWindow=" + aggregationWindow +
+                ", rateLimit=" + rateLimit +
+                ", rateLimitBurst=" + rateLimitBurst +
+                ", classRateLimit=" + classRateLimit +
+                ", classRateLimitBurst=" + classRateLimitBurst +
+                ", compressionLevel=" + compressionLevel +
+                ", compressionThreshold=" + compressionThreshold +
+                ", statsInterval=" + statsInterval +
+                ", maxBacktraceFrames=" + maxBacktraceFrames +
+                ", maxCauses=" + maxCauses +
+                ", maxCauseDepth=" + maxCauseDepth +
+                ", maxCauseFrames=" + maxCauseFrames +
+                ", excludedApplicationPackages=" + excludedApplicationPackages +
+                ", filterReportingAsync=" + filterReportingAsync +
+                '}';
+    }
+}
@@ -1,5 +1,7 @@
 package io.honeybadger.reporter.config;
 
+import io.honeybadger.reporter.spool.SpoolEvictionPolicy;
+import io.honeybadger.reporter.transport.ThrottlePolicy;
 import io.honeybadger.util.HBCollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,6 +10,7 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -78,6 +81,114 @@ public class MapConfigContext implements ConfigContext {
     public static final String HONEYBADGER_MAXIMUM_ERROR_REPORTING_RETRIES_KEY =
             "honeybadger.maximum_retry_attempts";
 
+    /** System property key indicating the maximum number of notices queued by an asynchronous reporter. */
+    public static final String ASYNC_QUEUE_CAPACITY_KEY =
+            "honeybadger.async_queue_capacity";
+
+    /** System property key indicating the number of sender threads used by an asynchronous reporter. */
+    public static final String ASYNC_SENDER_THREADS_KEY =
+            "honeybadger.async_sender_threads";
+
+    /** System property key indicating the directory undeliverable notices are spooled to. */
+    public static final String SPOOL_DIRECTORY_KEY =
+            "honeybadger.spool_directory";
+
+    /** System property key indicating the size in bytes of each spool segment file. */
+    public static final String SPOOL_SEGMENT_SIZE_KEY =
+            "honeybadger.spool_segment_size";
+
+    /** System property key indicating the maximum number of bytes of disk used by the spool. */
+    public static final String SPOOL_MAX_SIZE_KEY =
+            "honeybadger.spool_max_size";
+
+    /** System property key indicating what to do when the spool is full (drop_oldest or drop_newest). */
+    public static final String SPOOL_EVICTION_POLICY_KEY =
+            "honeybadger.spool_eviction_policy";
+
+    /** System property key indicating the maximum delay in milliseconds before the first retry. */
+    public static final String RETRY_INITIAL_DELAY_KEY =
+            "honeybadger.retry_initial_delay_millis";
+
+    /** System property key indicating the maximum delay in milliseconds between retries. */
+    public static final String RETRY_MAXIMUM_DELAY_KEY =
+            "honeybadger.retry_maximum_delay_millis";
+
+    /** System property key indicating the maximum time in milliseconds spent delivering a notice. */
+    public static final String DELIVERY_DEADLINE_KEY =
+            "honeybadger.delivery_deadline_millis";
+
+    /** System property key indicating what happens to notices while the API has asked us to pause (hold or drop). */
+    public static final String THROTTLE_POLICY_KEY =
+            "honeybadger.throttle_policy";
+
+    /** System property key indicating the milliseconds to wait for a connection to the API. */
+    public static final String CONNECT_TIMEOUT_KEY =
+            "honeybadger.connect_timeout_millis";
+
+    /** System property key indicating the milliseconds to wait for data from the API. */
+    public static final String SOCKET_TIMEOUT_KEY =
+            "honeybadger.socket_timeout_millis";
+
+    /** System property key indicating the maximum milliseconds a synchronous reportError call waits for delivery. */
+    public static final String SYNC_WAIT_TIMEOUT_KEY =
+            "honeybadger.sync_wait_millis";
+
+    /** System property key indicating the milliseconds during which identical errors are coalesced (0 disables). */
+    public static final String AGGREGATION_WINDOW_KEY =
+            "honeybadger.aggregation_window_millis";
+
+    /** System property key indicating the maximum errors per second reported across all classes (0 disables). */
+    public static final String RATE_LIMIT_KEY =
+            "honeybadger.rate_limit_per_second";
+
+    /** System property key indicating the errors that may be reported at once across all classes. */
+    public static final String RATE_LIMIT_BURST_KEY =
+            "honeybadger.rate_limit_burst";
+
+    /** System property key indicating the maximum errors per second reported per exception class (0 disables). */
+    public static final String CLASS_RATE_LIMIT_KEY =
+            "honeybadger.class_rate_limit_per_second";
+
+    /** System property key indicating the errors that may be reported at once per exception class. */
+    public static final String CLASS_RATE_LIMIT_BURST_KEY =
+            "honeybadger.class_rate_limit_burst";
+
+    /** System property key indicating the gzip compression level of notice payloads. */
+    public static final String COMPRESSION_LEVEL_KEY =
+            "honeybadger.compression_level";
+
+    /** System property key indicating the size in bytes below which notice payloads are not compressed. */
+    public static final String COMPRESSION_THRESHOLD_KEY =
+            "honeybadger.compression_threshold_bytes";
+
+    /** System property key indicating the interval between samples of host statistics. */
+    public static final String STATS_INTERVAL_KEY =
+            "honeybadger.stats_interval_millis";
+
+    /** System property key indicating the maximum number of frames reported for each backtrace. */
+    public static final String MAX_BACKTRACE_FRAMES_KEY =
+            "honeybadger.max_backtrace_frames";
+
+    /** System property key indicating the maximum number of causes and suppressed errors reported with an error. */
+    public static final String MAX_CAUSES_KEY =
+            "honeybadger.max_causes";
+
+    /** System property key indicating the maximum depth of the reported cause and suppressed error graph. */
+    public static final String MAX_CAUSE_DEPTH_KEY =
+            "honeybadger.max_cause_depth";
+
+    /** System property key indicating the total number of cause backtrace frames after which no more causes are reported. */
+    public static final String MAX_CAUSE_FRAMES_KEY =
+            "honeybadger.max_cause_frames";
+
+    /** System property key indicating package prefixes whose frames are never application frames. */
+    public static final String EXCLUDED_APPLICATION_PACKAGES_KEY =
+            "honeybadger.excluded_application_packages";
+
+    /** System property key indicating if the servlet filter responds before the error is delivered. */
+    public static final String FILTER_REPORTING_ASYNC_KEY =
+            "honeybadger.filter_reporting_async";
+
     /** System property key indicating the proxy server. */
     public static final String HTTP_PROXY_HOST_KEY =
             "http.proxyHost";
@@ -97,7 +208,15 @@ public class MapConfigContext implements ConfigContext {
             HONEYBADGER_EXCLUDED_CLASSES_KEY, APPLICATION_PACKAGE_PROP_KEY,
             READ_API_KEY_PROP_KEY, READ_API_KEY_ENV, DISPLAY_FEEDBACK_FORM_KEY,
             FEEDBACK_FORM_TEMPLATE_PATH_KEY, HTTP_PROXY_HOST_KEY,
-            HTTP_PROXY_PORT_KEY, HONEYBADGER_MAXIMUM_ERROR_REPORTING_RETRIES_KEY
+            HTTP_PROXY_PORT_KEY, HONEYBADGER_MAXIMUM_ERROR_REPORTING_RETRIES_KEY,
+            ASYNC_QUEUE_CAPACITY_KEY, ASYNC_SENDER_THREADS_KEY, SPOOL_DIRECTORY_KEY,
+            SPOOL_SEGMENT_SIZE_KEY, SPOOL_MAX_SIZE_KEY, SPOOL_EVICTION_POLICY_KEY,
+            RETRY_INITIAL_DELAY_KEY, RETRY_MAXIMUM_DELAY_KEY, DELIVERY_DEADLINE_KEY,
+            THROTTLE_POLICY_KEY, CONNECT_TIMEOUT_KEY, SOCKET_TIMEOUT_KEY, SYNC_WAIT_TIMEOUT_KEY,
+            AGGREGATION_WINDOW_KEY, RATE_LIMIT_KEY, RATE_LIMIT_BURST_KEY, CLASS_RATE_LIMIT_KEY,
+            CLASS_RATE_LIMIT_BURST_KEY, COMPRESSION_LEVEL_KEY, COMPRESSION_THRESHOLD_KEY,
+            STATS_INTERVAL_KEY, MAX_BACKTRACE_FRAMES_KEY, MAX_CAUSES_KEY, MAX_CAUSE_DEPTH_KEY,
+            MAX_CAUSE_FRAMES_KEY, EXCLUDED_APPLICATION_PACKAGES_KEY, FILTER_REPORTING_ASYNC_KEY
     };
 
     private final Map<?, ?> backingMap;
@@ -203,38 +322,147 @@ public class MapConfigContext implements ConfigContext {
 
     @Override
     public Integer getHttpProxyPort() {
-        Object value = backingMap.get(HTTP_PROXY_PORT_KEY);
+        return parseInteger(HTTP_PROXY_PORT_KEY);
+    }
 
-        if (value == null) return null;
-        if (value instanceof Number) return ((Number)value).intValue();
+    @Override
+    public Integer getMaximumErrorReportingRetries() {
+        return parseInteger(HONEYBADGER_MAXIMUM_ERROR_REPORTING_RETRIES_KEY);
+    }
 
-        String port = normalizeEmptyAndNullAndDefaultToStringValue(HTTP_PROXY_PORT_KEY);
+    @Override
+    public Integer getAsyncQueueCapacity() {
+        return parseInteger(ASYNC_QUEUE_CAPACITY_KEY);
+    }
 
-        try {
-            return Integer.parseInt(port);
-        } catch (NumberFormatException e) {
-            logger.warn("Error converting system property to integer. Property: {}",
-                    HTTP_PROXY_PORT_KEY);
-            return null;
-        }
+    @Override
+    public Integer getAsyncSenderThreads() {
+        return parseInteger(ASYNC_SENDER_THREADS_KEY);
     }
 
     @Override
-    public Integer getMaximumErrorReportingRetries() {
-        Object value = backingMap.get(HONEYBADGER_MAXIMUM_ERROR_REPORTING_RETRIES_KEY);
+    public String getSpoolDirectory() {
+        return normalizeEmptyAndNullAndDefaultToStringValue(SPOOL_DIRECTORY_KEY);
+    }
 
-        if (value == null) return null;
-        if (value instanceof Number) return ((Number)value).intValue();
+    @Override
+    public Integer getSpoolSegmentSize() {
+        return parseInteger(SPOOL_SEGMENT_SIZE_KEY);
+    }
 
-        String retries = normalizeEmptyAndNullAndDefaultToStringValue(HONEYBADGER_MAXIMUM_ERROR_REPORTING_RETRIES_KEY);
+    @Override
+    public Long getSpoolMaxSize() {
+        return parseLong(SPOOL_MAX_SIZE_KEY);
+    }
 
-        try {
-            return Integer.parseInt(retries);
-        } catch (NumberFormatException e) {
-            logger.warn("Error converting system property to integer. Property: {}",
-                    HTTP_PROXY_PORT_KEY);
-            return null;
-        }
+    @Override
+    public SpoolEvictionPolicy getSpoolEvictionPolicy() {
+        return parseEnum(SPOOL_EVICTION_POLICY_KEY, SpoolEvictionPolicy.class);
+    }
+
+    @Override
+    public Integer getRetryInitialDelay() {
+        return parseInteger(RETRY_INITIAL_DELAY_KEY);
+    }
+
+    @Override
+    public Integer getRetryMaximumDelay() {
+        return parseInteger(RETRY_MAXIMUM_DELAY_KEY);
+    }
+
+    @Override
+    public Integer getDeliveryDeadline() {
+        return parseInteger(DELIVERY_DEADLINE_KEY);
+    }
+
+    @Override
+    public ThrottlePolicy getThrottlePolicy() {
+        return parseEnum(THROTTLE_POLICY_KEY, ThrottlePolicy.class);
+    }
+
+    @Override
+    public Integer getConnectTimeout() {
+        return parseInteger(CONNECT_TIMEOUT_KEY);
+    }
+
+    @Override
+    public Integer getSocketTimeout() {
+        return parseInteger(SOCKET_TIMEOUT_KEY);
+    }
+
+    @Override
+    public Integer getSyncWaitTimeout() {
+        return parseInteger(SYNC_WAIT_TIMEOUT_KEY);
+    }
+
+    @Override
+    public Integer getAggregationWindow() {
+        return parseInteger(AGGREGATION_WINDOW_KEY);
+    }
+
+    @Override
+    public Integer getRateLimit() {
+        return parseInteger(RATE_LIMIT_KEY);
+    }
+
+    @Override
+    public Integer getRateLimitBurst() {
+        return parseInteger(RATE_LIMIT_BURST_KEY);
+    }
+
+    @Override
+    public Integer getClassRateLimit() {
+        return parseInteger(CLASS_RATE_LIMIT_KEY);
+    }
+
+    @Override
+    public Integer getClassRateLimitBurst() {
+        return parseInteger(CLASS_RATE_LIMIT_BURST_KEY);
+    }
+
+    @Override
+    public Integer getCompressionLevel() {
+        return parseInteger(COMPRESSION_LEVEL_KEY);
+    }
+
+    @Override
+    public Integer getCompressionThreshold() {
+        return parseInteger(COMPRESSION_THRESHOLD_KEY);
+    }
+
+    @Override
+    public Integer getStatsInterval() {
+        return parseInteger(STATS_INTERVAL_KEY);
+    }
+
+    @Override
+    public Integer getMaxBacktraceFrames() {
+        return parseInteger(MAX_BACKTRACE_FRAMES_KEY);
+    }
+
+    @Override
+    public Integer getMaxCauses() {
+        return parseInteger(MAX_CAUSES_KEY);
+    }
+
+    @Override
+    public Integer getMaxCauseDepth() {
+        return parseInteger(MAX_CAUSE_DEPTH_KEY);
+    }
+
+    @Override
+    public Integer getMaxCauseFrames() {
+        return parseInteger(MAX_CAUSE_FRAMES_KEY);
+    }
+
+    @Override
+    public Set<String> getExcludedApplicationPackages() {
+        return parseCsvStringSetOrPassOnObject(EXCLUDED_APPLICATION_PACKAGES_KEY);
+    }
+
+    @Override
+    public Boolean isFilterReportingAsync() {
+        return parseBoolean(FILTER_REPORTING_ASYNC_KEY);
     }
 
     /**
@@ -270,6 +498,59 @@ public class MapConfigContext implements ConfigContext {
         return stringValue;
     }
 
+    private Integer parseInteger(final Object key) {
+        Object value = backingMap.get(key);
+
+        if (value == null) return null;
+        if (value instanceof Number) return ((Number)value).intValue();
+
+        String stringValue = normalizeEmptyAndNullAndDefaultToStringValue(key);
+        if (stringValue == null) return null;
+
+        try {
+            return Integer.parseInt(stringValue.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Error converting system property to integer. Property: {}",
+                    key);
+            return null;
+        }
+    }
+
+    private Long parseLong(final Object key) {
+        Object value = backingMap.get(key);
+
+        if (value == null) return null;
+        if (value instanceof Number) return ((Number)value).longValue();
+
+        String stringValue = normalizeEmptyAndNullAndDefaultToStringValue(key);
+        if (stringValue == null) return null;
+
+        try {
+            return Long.parseLong(stringValue.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Error converting system property to long. Property: {}",
+                    key);
+            return null;
+        }
+    }
+
+    private <T extends Enum<T>> T parseEnum(final Object key, final Class<T> type) {
+        Object value = backingMap.get(key);
+
+        if (value == null) return null;
+        if (type.isInstance(value)) return type.cast(value);
+
+        String name = normalizeEmptyAndNullAndDefaultToStringValue(key);
+        if (name == null) return null;
+
+        try {
+            return Enum.valueOf(type, name.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown value [{}] for property: {}", name, key);
+            return null;
+        }
+    }
+
     private Boolean parseBoolean(final Object key) {
         Object value = backingMap.get(key);
 
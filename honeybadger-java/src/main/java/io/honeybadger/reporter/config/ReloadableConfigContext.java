@@ -0,0 +1,438 @@
+package io.honeybadger.reporter.config;
+
+import io.honeybadger.reporter.spool.SpoolEvictionPolicy;
+import io.honeybadger.reporter.transport.ThrottlePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link ConfigContext} implementation that is reloaded when a properties
+ * file changes. The properties in the file use the same keys as the system
+ * properties and overwrite the values of a base context, such as a
+ * {@link SystemSettingsConfigContext}.
+ *
+ * <p>The file's directory is watched on a daemon thread. When the file
+ * changes, a new {@link FrozenConfigContext} is built on that thread and
+ * published with a single volatile write, so reading a value never takes a
+ * lock. Snapshots that a registered validator rejects, or files that can't
+ * be read, are logged and the previous snapshot stays in use. Changes are
+ * read once the file has been left alone for {@value #SETTLE_MILLIS}ms;
+ * writing the file elsewhere and moving it in place avoids reading a file
+ * that is only partly written.</p>
+ *
+ * <p>Reporters created with a reloadable context take a snapshot of it for
+ * every report, so exclusions, retry limits, retry delays, the delivery
+ * deadline and rate limits can be changed while the application is running.
+ * Settings that reporters only read at startup, such as the spool, the
+ * aggregation window and the async queue, need a restart.</p>
+ *
+ * @since 2.0.1
+ */
+public final class ReloadableConfigContext implements ConfigContext, Closeable {
+    /**
+     * Milliseconds to wait for more changes after the file has changed, so
+     * that a file that is still being written isn't read.
+     */
+    static final long SETTLE_MILLIS = 200;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ConfigContext base;
+    private final Path file;
+    private final List<Consumer<ConfigContext>> validators = new CopyOnWriteArrayList<>();
+    private final WatchService watchService;
+    private volatile FrozenConfigContext current;
+
+    /**
+     * Loads the file and starts watching it. The base context is used on its
+     * own until the file exists.
+     *
+     * @param base context providing the values that aren't in the file
+     * @param file properties file to watch
+     * @throws IOException thrown when the file's directory can't be watched
+     */
+    public ReloadableConfigContext(final ConfigContext base, final Path file) throws IOException {
+        if (base == null) {
+            throw new IllegalArgumentException("Base context must not be null");
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("Config file must not be null");
+        }
+
+        this.base = base;
+        this.file = file.toAbsolutePath();
+        this.current = load();
+
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+        final Thread watcher = new Thread(this::watch, "honeybadger-config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Adds a check that new snapshots must pass before they are published.
+     * Validators throw an {@link IllegalArgumentException} to reject a
+     * snapshot.
+     *
+     * @param validator check to add
+     */
+    public void addValidator(final Consumer<ConfigContext> validator) {
+        validators.add(validator);
+    }
+
+    /**
+     * Removes a check added with {@link #addValidator(Consumer)}.
+     *
+     * @param validator check to remove
+     */
+    public void removeValidator(final Consumer<ConfigContext> validator) {
+        validators.remove(validator);
+    }
+
+    /**
+     * @return the snapshot currently in use
+     */
+    public FrozenConfigContext snapshot() {
+        return current;
+    }
+
+    /**
+     * Reads the file again and publishes the result if it is valid. Reloads
+     * are serialized, so that an older read is never published after a newer
+     * one. Readers of the context don't wait for a reload.
+     *
+     * @return true if a new snapshot was published
+     */
+    public synchronized boolean reload() {
+        final FrozenConfigContext reloaded;
+
+        try {
+            reloaded = load();
+
+            for (Consumer<ConfigContext> validator : validators) {
+                validator.accept(reloaded);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Honeybadger configuration in {} wasn't reloaded: {}", file, e.getMessage());
+            return false;
+        }
+
+        current = reloaded;
+        logger.info("Reloaded Honeybadger configuration from {}", file);
+
+        return true;
+    }
+
+    /**
+     * Stops watching the file. The current snapshot stays in use.
+     *
+     * @throws IOException thrown when the watch service can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * The returned snapshot isn't reloaded. Pass the reloadable context
+     * itself to reporters that should follow reloads.
+     *
+     * @return the snapshot currently in use
+     */
+    @Override
+    public FrozenConfigContext freeze() {
+        return current;
+    }
+
+    private FrozenConfigContext load() throws IOException {
+        final StandardConfigContext layered = new StandardConfigContext();
+        layered.overwriteWithContext(base);
+
+        final Properties properties = new Properties();
+
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+            layered.overwriteWithContext(new MapConfigContext(properties));
+        } catch (NoSuchFileException e) {
+            logger.debug("Honeybadger configuration file {} doesn't exist", file);
+        }
+
+        return FrozenConfigContext.of(layered);
+    }
+
+    private void watch() {
+        final Path fileName = file.getFileName();
+
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+
+                // Keep collecting events until the file has been left alone for a while
+                while (key != null) {
+                    changed |= concernsFile(key, fileName);
+
+                    if (!key.reset()) {
+                        logger.warn("Stopped watching {} because its directory is no longer accessible",
+                                file);
+                        return;
+                    }
+
+                    key = changed ? watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS) : null;
+                }
+
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Stopped watching {}", file);
+        }
+    }
+
+    private static boolean concernsFile(final WatchKey key, final Path fileName) {
+        boolean concerned = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || fileName.equals(event.context())) {
+                concerned = true;
+            }
+        }
+
+        return concerned;
+    }
+
+    @Override
+    public String getEnvironment() {
+        return current.getEnvironment();
+    }
+
+    @Override
+    public URI getHoneybadgerUrl() {
+        return current.getHoneybadgerUrl();
+    }
+
+    @Override
+    public String getApiKey() {
+        return current.getApiKey();
+    }
+
+    @Override
+    public Set<String> getExcludedSysProps() {
+        return current.getExcludedSysProps();
+    }
+
+    @Override
+    public Set<String> getExcludedParams() {
+        return current.getExcludedParams();
+    }
+
+    @Override
+    public Set<String> getExcludedClasses() {
+        return current.getExcludedClasses();
+    }
+
+    @Override
+    public String getApplicationPackage() {
+        return current.getApplicationPackage();
+    }
+
+    @Override
+    public String getHoneybadgerReadApiKey() {
+        return current.getHoneybadgerReadApiKey();
+    }
+
+    @Override
+    public Boolean isFeedbackFormDisplayed() {
+        return current.isFeedbackFormDisplayed();
+    }
+
+    @Override
+    public String getFeedbackFormPath() {
+        return current.getFeedbackFormPath();
+    }
+
+    @Override
+    public String getHttpProxyHost() {
+        return current.getHttpProxyHost();
+    }
+
+    @Override
+    public Integer getHttpProxyPort() {
+        return current.getHttpProxyPort();
+    }
+
+    @Override
+    public Integer getMaximumErrorReportingRetries() {
+        return current.getMaximumErrorReportingRetries();
+    }
+
+    @Override
+    public Integer getAsyncQueueCapacity() {
+        return current.getAsyncQueueCapacity();
+    }
+
+    @Override
+    public Integer getAsyncSenderThreads() {
+        return current.getAsyncSenderThreads();
+    }
+
+    @Override
+    public String getSpoolDirectory() {
+        return current.getSpoolDirectory();
+    }
+
+    @Override
+    public Integer getSpoolSegmentSize() {
+        return current.getSpoolSegmentSize();
+    }
+
+    @Override
+    public Long getSpoolMaxSize() {
+        return current.getSpoolMaxSize();
+    }
+
+    @Override
+    public SpoolEvictionPolicy getSpoolEvictionPolicy() {
+        return current.getSpoolEvictionPolicy();
+    }
+
+    @Override
+    public Integer getRetryInitialDelay() {
+        return current.getRetryInitialDelay();
+    }
+
+    @Override
+    public Integer getRetryMaximumDelay() {
+        return current.getRetryMaximumDelay();
+    }
+
+    @Override
+    public Integer getDeliveryDeadline() {
+        return current.getDeliveryDeadline();
+    }
+
+    @Override
+    public ThrottlePolicy getThrottlePolicy() {
+        return current.getThrottlePolicy();
+    }
+
+    @Override
+    public Integer getConnectTimeout() {
+        return current.getConnectTimeout();
+    }
+
+    @Override
+    public Integer getSocketTimeout() {
+        return current.getSocketTimeout();
+    }
+
+    @Override
+    public Integer getSyncWaitTimeout() {
+        return current.getSyncWaitTimeout();
+    }
+
+    @Override
+    public Integer getAggregationWindow() {
+        return current.getAggregationWindow();
+    }
+
+    @Override
+    public Integer getRateLimit() {
+        return current.getRateLimit();
+    }
+
+    @Override
+    public Integer getRateLimitBurst() {
+        return current.getRateLimitBurst();
+    }
+
+    @Override
+    public Integer getClassRateLimit() {
+        return current.getClassRateLimit();
+    }
+
+    @Override
+    public Integer getClassRateLimitBurst() {
+        return current.getClassRateLimitBurst();
+    }
+
+    @Override
+    public Integer getCompressionLevel() {
+        return current.getCompressionLevel();
+    }
+
+    @Override
+    public Integer getCompressionThreshold() {
+        return current.getCompressionThreshold();
+    }
+
+    @Override
+    public Integer getStatsInterval() {
+        return current.getStatsInterval();
+    }
+
+    @Override
+    public Integer getMaxBacktraceFrames() {
+        return current.getMaxBacktraceFrames();
+    }
+
+    @Override
+    public Integer getMaxCauses() {
+        return current.getMaxCauses();
+    }
+
+    @Override
+    public Integer getMaxCauseDepth() {
+        return current.getMaxCauseDepth();
+    }
+
+    @Override
+    public Integer getMaxCauseFrames() {
+        return current.getMaxCauseFrames();
+    }
+
+    @Override
+    public Set<String> getExcludedApplicationPackages() {
+        return current.getExcludedApplicationPackages();
+    }
+
+    @Override
+    public Boolean isFilterReportingAsync() {
+        return current.isFilterReportingAsync();
+    }
+
+    @Override
+    public String toString() {
+        return "ReloadableConfigContext{" +
+                "file=" + file +
+                ", current=" + current +
+                '}';
+    }
+}
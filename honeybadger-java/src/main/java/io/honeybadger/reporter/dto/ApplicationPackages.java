@@ -0,0 +1,269 @@
+package io.honeybadger.reporter.dto;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.util.HBCollectionUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decides which classes belong to the application, based on the comma
+ * separated package prefixes in <code>honeybadger.application_package</code>
+ * and the prefixes in <code>honeybadger.excluded_application_packages</code>.
+ * A class belongs to the application when the longest configured prefix it
+ * starts with is an application prefix.
+ *
+ * <p>The prefixes are compiled into a character trie, so classifying a name
+ * takes one step per character no matter how many prefixes are configured.
+ * Classifications are also cached per class name, up to
+ * {@value #MAX_CLASSES} names.</p>
+ *
+ * @since 2.0.1
+ */
+public final class ApplicationPackages {
+    /** Maximum number of class names whose classification is cached. */
+    static final int MAX_CLASSES = 10_000;
+
+    private static final ConcurrentMap<Object, ApplicationPackages> SHARED =
+            new ConcurrentHashMap<>();
+
+    private static volatile ApplicationPackages last;
+
+    private final String applicationPackage;
+    private final Set<String> excludedPackages;
+    private final Set<String> prefixes;
+    private final Set<String> exclusions;
+    private final Node root = new Node();
+    private final ConcurrentMap<String, Boolean> classes = new ConcurrentHashMap<>();
+
+    /**
+     * @param applicationPackage comma separated application package prefixes or null
+     * @param excludedPackages package prefixes that aren't part of the application or null
+     */
+    ApplicationPackages(final String applicationPackage, final Set<String> excludedPackages) {
+        this.applicationPackage = applicationPackage;
+        this.excludedPackages = excludedPackages == null ?
+                Collections.emptySet() : Collections.unmodifiableSet(new TreeSet<>(excludedPackages));
+        this.prefixes = nonEmpty(HBCollectionUtils.parseNaiveCsvString(
+                applicationPackage == null ? null : applicationPackage.trim()));
+        this.exclusions = nonEmpty(this.excludedPackages);
+
+        for (String prefix : prefixes) {
+            root.add(prefix, Node.APP);
+        }
+
+        for (String exclusion : exclusions) {
+            root.add(exclusion, Node.EXCLUDED);
+        }
+    }
+
+    /**
+     * Finds the classifier shared by all configurations with the same
+     * application and excluded packages.
+     *
+     * @param config configuration to read the packages from
+     * @return shared classifier
+     */
+    public static ApplicationPackages forConfig(final ConfigContext config) {
+        return of(config.getApplicationPackage(), config.getExcludedApplicationPackages());
+    }
+
+    /**
+     * Finds the classifier shared by all configurations with the same
+     * application and excluded packages.
+     *
+     * @param applicationPackage comma separated application package prefixes or null
+     * @param excludedPackages package prefixes that aren't part of the application or null
+     * @return shared classifier
+     */
+    public static ApplicationPackages of(final String applicationPackage,
+                                         final Set<String> excludedPackages) {
+        final ApplicationPackages recent = last;
+
+        if (recent != null && recent.isFor(applicationPackage, excludedPackages)) {
+            return recent;
+        }
+
+        ApplicationPackages shared = SHARED.get(Arrays.asList(applicationPackage,
+                excludedPackages == null ? Collections.emptySet() : excludedPackages));
+
+        if (shared == null) {
+            final ApplicationPackages created = new ApplicationPackages(applicationPackage, excludedPackages);
+            final ApplicationPackages existing = SHARED.putIfAbsent(
+                    Arrays.asList(created.applicationPackage, created.excludedPackages), created);
+            shared = existing != null ? existing : created;
+        }
+
+        last = shared;
+
+        return shared;
+    }
+
+    /**
+     * @return true if no application package is configured, so no class
+     *         belongs to the application
+     */
+    public boolean isEmpty() {
+        return prefixes.isEmpty();
+    }
+
+    /**
+     * @param className fully qualified class name
+     * @return true if the class belongs to the application
+     */
+    public boolean isApplicationClass(final String className) {
+        if (isEmpty() || className == null) {
+            return false;
+        }
+
+        final Boolean cached = classes.get(className);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final boolean application = matches(className);
+
+        if (classes.size() < MAX_CLASSES) {
+            classes.putIfAbsent(className, application);
+        }
+
+        return application;
+    }
+
+    /**
+     * Classifies a name without caching it, for names such as qualified
+     * method names that would only clutter the cache.
+     *
+     * @param name fully qualified class or method name
+     * @return true if the name belongs to the application
+     */
+    public boolean matches(final String name) {
+        if (isEmpty() || name == null) {
+            return false;
+        }
+
+        Node node = root;
+        boolean application = false;
+
+        for (int i = 0; i < name.length(); i++) {
+            node = node.child(name.charAt(i));
+
+            if (node == null) {
+                break;
+            }
+
+            if (node.mark != Node.NONE) {
+                application = node.mark == Node.APP;
+            }
+        }
+
+        return application;
+    }
+
+    private boolean isFor(final String otherApplicationPackage, final Set<String> otherExcludedPackages) {
+        final Set<String> excluded = otherExcludedPackages == null ?
+                Collections.emptySet() : otherExcludedPackages;
+
+        return Objects.equals(applicationPackage, otherApplicationPackage)
+                && excludedPackages.equals(excluded);
+    }
+
+    private static Set<String> nonEmpty(final Collection<String> values) {
+        final Set<String> set = new TreeSet<>();
+
+        for (String value : values) {
+            if (value != null && !value.trim().isEmpty()) {
+                set.add(value.trim());
+            }
+        }
+
+        return set;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ApplicationPackages that = (ApplicationPackages) o;
+        return Objects.equals(prefixes, that.prefixes) &&
+                Objects.equals(exclusions, that.exclusions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(prefixes, exclusions);
+    }
+
+    @Override
+    public String toString() {
+        return "ApplicationPackages{" +
+                "prefixes=" + prefixes +
+                ", exclusions=" + exclusions +
+                '}';
+    }
+
+    /**
+     * Trie node for one character of a prefix. Children are kept sorted by
+     * character and looked up with a binary search.
+     */
+    private static final class Node {
+        private static final byte NONE = 0;
+        private static final byte APP = 1;
+        private static final byte EXCLUDED = 2;
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private byte mark = NONE;
+
+        Node child(final char c) {
+            final int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void add(final String prefix, final byte prefixMark) {
+            Node node = this;
+
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.childOrCreate(prefix.charAt(i));
+            }
+
+            // Exclusions win over an identical application prefix
+            if (node.mark != EXCLUDED) {
+                node.mark = prefixMark;
+            }
+        }
+
+        private Node childOrCreate(final char c) {
+            final int index = Arrays.binarySearch(keys, c);
+
+            if (index >= 0) {
+                return children[index];
+            }
+
+            final int insertAt = -index - 1;
+            final Node created = new Node();
+
+            final char[] newKeys = new char[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            newKeys[insertAt] = c;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newChildren[insertAt] = created;
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            keys = newKeys;
+            children = newChildren;
+
+            return created;
+        }
+    }
+}
@@ -3,23 +3,44 @@ package io.honeybadger.reporter.dto;
 import com.fasterxml.jackson.annotation.JacksonInject;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.honeybadger.reporter.config.ConfigContext;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Class representing an ordered collection of backtrace elements.
+ *
+ * <p>A backtrace created from an error keeps the error's stack frames and
+ * only creates its {@link BacktraceElement}s when its contents are first
+ * accessed as a list. Until then it is serialized straight from the stack
+ * frames by {@link BacktraceSerializer}, so reporting an error doesn't
+ * allocate an element per frame.</p>
+ *
  * @author <a href="https://github.com/dekobon">Elijah Zupancic</a>
  * @since 1.0.9
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = BacktraceSerializer.class)
 public class Backtrace extends ArrayList<BacktraceElement>
         implements Serializable {
     private static final long serialVersionUID = 5788866962863555294L;
 
     private final ConfigContext config;
 
+    /** Stack frames not converted to elements yet, null once they are. */
+    private transient volatile StackTraceElement[] frames;
+
     /**
      * Adds each backtrace element in an error to the backtrace. The
      * config provide the required context to allow forwarding the error to HoneyBadger.
@@ -36,6 +57,19 @@ public class Backtrace extends ArrayList<BacktraceElement>
         addTrace(error);
     }
 
+    /**
+     * Creates a backtrace for a cause, leaving out the frames it shares with
+     * the trace of the error it caused.
+     * @param config Environment
+     * @param trace stack trace of the cause
+     * @param enclosingTrace stack trace of the error caused by the cause
+     */
+    Backtrace(final ConfigContext config, final StackTraceElement[] trace,
+              final StackTraceElement[] enclosingTrace) {
+        this.config = config;
+        addTrace(trace, enclosingTrace);
+    }
+
     /**
      * For the benefit of deserialization
      */
@@ -45,12 +79,242 @@ public class Backtrace extends ArrayList<BacktraceElement>
     }
 
     /**
-     * Add an error to the collection.
+     * Add an error to the collection. The error's frames are converted to
+     * elements when the backtrace is first accessed as a list.
      * @param error Error or Exception instance
      */
     void addTrace(final Throwable error) {
-        for (StackTraceElement trace : error.getStackTrace()) {
-            add(new BacktraceElement(config, trace));
+        addTrace(error.getStackTrace(), null);
+    }
+
+    private void addTrace(final StackTraceElement[] fullTrace,
+                          final StackTraceElement[] enclosingTrace) {
+        final StackTraceElement[] trace = TraceCompactor.compact(config, fullTrace, enclosingTrace);
+
+        if (frames == null && super.isEmpty()) {
+            frames = trace;
+            return;
         }
+
+        materialize();
+        addFrames(trace);
+    }
+
+    /**
+     * @return stack frames that haven't been converted to elements yet or null
+     */
+    StackTraceElement[] getFrames() {
+        return frames;
+    }
+
+    ConfigContext getConfig() {
+        return config;
+    }
+
+    private synchronized void materialize() {
+        final StackTraceElement[] pending = frames;
+
+        if (pending != null) {
+            addFrames(pending);
+            frames = null;
+        }
+    }
+
+    private void addFrames(final StackTraceElement[] trace) {
+        final FrameCache cache = FrameCache.forConfig(config);
+
+        ensureCapacity(super.size() + trace.length);
+
+        for (StackTraceElement frame : trace) {
+            super.add(cache.get(config, frame));
+        }
+    }
+
+    /**
+     * Java serialization writes the elements, so they are created first.
+     * @return this backtrace
+     */
+    protected Object writeReplace() {
+        materialize();
+        return this;
+    }
+
+    @Override
+    public int size() {
+        final StackTraceElement[] pending = frames;
+        return pending != null ? pending.length : super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        materialize();
+        return super.contains(o);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        materialize();
+        return super.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        materialize();
+        return super.lastIndexOf(o);
+    }
+
+    @Override
+    public Object clone() {
+        materialize();
+        return super.clone();
+    }
+
+    @Override
+    public Object[] toArray() {
+        materialize();
+        return super.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(final T[] a) {
+        materialize();
+        return super.toArray(a);
+    }
+
+    @Override
+    public BacktraceElement get(final int index) {
+        materialize();
+        return super.get(index);
+    }
+
+    @Override
+    public BacktraceElement set(final int index, final BacktraceElement element) {
+        materialize();
+        return super.set(index, element);
+    }
+
+    @Override
+    public boolean add(final BacktraceElement element) {
+        materialize();
+        return super.add(element);
+    }
+
+    @Override
+    public void add(final int index, final BacktraceElement element) {
+        materialize();
+        super.add(index, element);
+    }
+
+    @Override
+    public BacktraceElement remove(final int index) {
+        materialize();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        materialize();
+        return super.remove(o);
+    }
+
+    @Override
+    public void clear() {
+        frames = null;
+        super.clear();
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends BacktraceElement> c) {
+        materialize();
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(final int index, final Collection<? extends BacktraceElement> c) {
+        materialize();
+        return super.addAll(index, c);
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        materialize();
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+        materialize();
+        return super.retainAll(c);
+    }
+
+    @Override
+    public ListIterator<BacktraceElement> listIterator(final int index) {
+        materialize();
+        return super.listIterator(index);
+    }
+
+    @Override
+    public ListIterator<BacktraceElement> listIterator() {
+        materialize();
+        return super.listIterator();
+    }
+
+    @Override
+    public Iterator<BacktraceElement> iterator() {
+        materialize();
+        return super.iterator();
+    }
+
+    @Override
+    public List<BacktraceElement> subList(final int fromIndex, final int toIndex) {
+        materialize();
+        return super.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public void forEach(final Consumer<? super BacktraceElement> action) {
+        materialize();
+        super.forEach(action);
+    }
+
+    @Override
+    public Spliterator<BacktraceElement> spliterator() {
+        materialize();
+        return super.spliterator();
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super BacktraceElement> filter) {
+        materialize();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public void replaceAll(final UnaryOperator<BacktraceElement> operator) {
+        materialize();
+        super.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(final Comparator<? super BacktraceElement> c) {
+        materialize();
+        super.sort(c);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        materialize();
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        materialize();
+        return super.hashCode();
     }
 }
@@ -79,29 +79,27 @@ public class BacktraceElement implements Serializable {
         this.number = String.valueOf(element.getLineNumber());
         this.file = String.valueOf(element.getFileName());
         this.method = formatMethod(element);
-        this.context = calculateContext(method).getName();
+        this.context = contextOf(ApplicationPackages.forConfig(config), element).getName();
     }
 
     static String formatMethod(final StackTraceElement element) {
-        return String.format("%s.%s",
-                element.getClassName(), element.getMethodName());
+        if (TraceCompactor.isMarker(element)) {
+            return element.getMethodName();
+        }
+
+        return element.getClassName() + '.' + element.getMethodName();
     }
 
     Context calculateContext(final String methodName) {
-        final String appPackage = config.getApplicationPackage();
-        final Context methodContext;
-
-        if (appPackage == null || appPackage.isEmpty()) {
-            methodContext = Context.ALL;
-        } else if (methodName == null || methodName.isEmpty()) {
-            methodContext = Context.ALL;
-        } else if (methodName.startsWith(appPackage)) {
-            methodContext = Context.APP;
-        } else {
-            methodContext = Context.ALL;
+        if (methodName == null || methodName.isEmpty()) {
+            return Context.ALL;
         }
 
-        return methodContext;
+        return ApplicationPackages.forConfig(config).matches(methodName) ? Context.APP : Context.ALL;
+    }
+
+    static Context contextOf(final ApplicationPackages packages, final StackTraceElement element) {
+        return packages.isApplicationClass(element.getClassName()) ? Context.APP : Context.ALL;
     }
 
     @Override
@@ -0,0 +1,75 @@
+package io.honeybadger.reporter.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link Backtrace} whose elements haven't been created yet straight
+ * from its stack frames. Frames already in the {@link FrameCache} are written
+ * from their cached element and other frames are written from the values
+ * computed for them, without creating an element. The fields are written in
+ * the same order as a serialized {@link BacktraceElement}.
+ *
+ * @since 2.0.1
+ */
+final class BacktraceSerializer extends JsonSerializer<Backtrace> {
+    @Override
+    public void serialize(final Backtrace backtrace, final JsonGenerator gen,
+                          final SerializerProvider serializers) throws IOException {
+        final StackTraceElement[] frames = backtrace.getFrames();
+
+        if (frames == null) {
+            gen.writeStartArray();
+
+            for (BacktraceElement element : backtrace) {
+                serializers.defaultSerializeValue(element, gen);
+            }
+
+            gen.writeEndArray();
+            return;
+        }
+
+        final ApplicationPackages packages = ApplicationPackages.forConfig(backtrace.getConfig());
+        final FrameCache cache = FrameCache.forPackages(packages);
+
+        gen.writeStartArray();
+
+        for (StackTraceElement frame : frames) {
+            final BacktraceElement cached = cache.cached(frame);
+
+            if (cached != null) {
+                writeElement(gen, cached.getNumber(), cached.getFile(),
+                        cached.getMethod(), cached.getContext());
+            } else {
+                final String method = BacktraceElement.formatMethod(frame);
+
+                writeElement(gen, String.valueOf(frame.getLineNumber()),
+                        String.valueOf(frame.getFileName()), method,
+                        BacktraceElement.contextOf(packages, frame).getName());
+            }
+        }
+
+        gen.writeEndArray();
+    }
+
+    private static void writeElement(final JsonGenerator gen, final String number,
+                                     final String file, final String method,
+                                     final String context) throws IOException {
+        gen.writeStartObject();
+        writeField(gen, "number", number);
+        writeField(gen, "file", file);
+        writeField(gen, "method", method);
+        writeField(gen, "context", context);
+        gen.writeEndObject();
+    }
+
+    private static void writeField(final JsonGenerator gen, final String name,
+                                   final String value) throws IOException {
+        if (value != null) {
+            gen.writeStringField(name, value);
+        }
+    }
+}
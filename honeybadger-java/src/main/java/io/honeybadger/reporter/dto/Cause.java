@@ -28,6 +28,13 @@ public class Cause implements Serializable {
         this.backtrace = new Backtrace(config, error);
     }
 
+    Cause(final ConfigContext config, final Throwable error, final StackTraceElement[] trace,
+          final StackTraceElement[] enclosingTrace) {
+        this.className = error.getClass().getName();
+        this.message = error.getMessage();
+        this.backtrace = new Backtrace(config, trace, enclosingTrace);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -4,10 +4,27 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import io.honeybadger.reporter.config.ConfigContext;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
+import java.util.Set;
 
 /**
  * An ordered collection of chained exceptions.
+ *
+ * <p>The causes and suppressed errors of an error form a graph that may
+ * contain cycles. It is walked depth first, with the cause of each error
+ * visited before its suppressed errors, and each error is reported once. The
+ * walk is bounded by <code>honeybadger.max_causes</code> errors, a depth of
+ * <code>honeybadger.max_cause_depth</code> and a total of
+ * <code>honeybadger.max_cause_frames</code> backtrace frames, so that the
+ * cost of a report doesn't depend on how pathological the graph is. A
+ * budget of 0 means no limit. The
+ * errors are listed in the reverse order of the walk, so that the innermost
+ * cause of a chain comes first.</p>
+ *
  * @author <a href="https://github.com/dekobon">Elijah Zupancic</a>
  * @since 1.0.9
  */
@@ -16,8 +33,6 @@ import java.util.LinkedList;
 public class Causes extends LinkedList<Cause> implements Serializable {
     private static final long serialVersionUID = -5359764114506595006L;
 
-    private static final int MAX_CAUSES = 100;
-
     public Causes(final ConfigContext config, final Throwable rootError) {
         if (rootError == null) {
             throw new IllegalArgumentException("Error can't be null");
@@ -26,23 +41,80 @@ public class Causes extends LinkedList<Cause> implements Serializable {
     }
 
     void addCauses(final ConfigContext config, final Throwable rootError) {
-        if (rootError.getCause() == null) return;
+        final Throwable[] rootSuppressed = rootError.getSuppressed();
+
+        if (rootError.getCause() == null && rootSuppressed.length == 0) return;
+
+        final int maxCauses = budget(config.getMaxCauses(), "honeybadger.max_causes");
+        final int maxDepth = budget(config.getMaxCauseDepth(), "honeybadger.max_cause_depth");
+        final int maxFrames = budget(config.getMaxCauseFrames(), "honeybadger.max_cause_frames");
+
+        final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Pending> pending = new ArrayDeque<>();
+        final StackTraceElement[] rootTrace = rootError.getStackTrace();
+
+        visited.add(rootError);
+        push(pending, rootError.getCause(), rootSuppressed, rootTrace, 1);
+
+        int frames = 0;
+
+        while (!pending.isEmpty() && size() < maxCauses && frames < maxFrames) {
+            final Pending next = pending.pop();
+
+            if (next.depth > maxDepth || !visited.add(next.error)) {
+                continue;
+            }
+
+            final StackTraceElement[] trace = next.error.getStackTrace();
+            final Cause cause = new Cause(config, next.error, trace, next.enclosingTrace);
+
+            addFirst(cause);
+            frames += cause.getBacktrace().size();
+
+            push(pending, next.error.getCause(), next.error.getSuppressed(),
+                    trace, next.depth + 1);
+        }
+    }
 
-        Throwable lastCause = null;
-        Throwable nextCause = rootError.getCause();
+    private static void push(final Deque<Pending> pending, final Throwable cause,
+                             final Throwable[] suppressed, final StackTraceElement[] trace,
+                             final int depth) {
+        // Pushed in reverse so that the cause is visited first
+        for (int i = suppressed.length - 1; i >= 0; i--) {
+            pending.push(new Pending(suppressed[i], trace, depth));
+        }
 
-        int iterations = 0;
+        if (cause != null) {
+            pending.push(new Pending(cause, trace, depth));
+        }
+    }
 
-        do {
-            // If we are in a simple circular reference, exit
-            if (lastCause != null && lastCause.equals(nextCause)) break;
+    private static int budget(final Integer value, final String property) {
+        if (value == null || value == 0) {
+            return Integer.MAX_VALUE;
+        }
 
-            addFirst(new Cause(config, nextCause));
+        if (value < 0) {
+            throw new IllegalArgumentException("Honeybadger property " + property +
+                    " must be an integer greater than or equal to 0");
+        }
+
+        return value;
+    }
 
-            // Since we could have multi-class circular ref we just check
-            // for too big of a cause trace
-            if (++iterations > MAX_CAUSES) break;
-            lastCause = nextCause;
-        } while (null != (nextCause = nextCause.getCause())); //checkstyle ignore
+    /**
+     * Error waiting to be visited, with the trace of the error that it
+     * caused or that suppressed it.
+     */
+    private static final class Pending {
+        private final Throwable error;
+        private final StackTraceElement[] enclosingTrace;
+        private final int depth;
+
+        Pending(final Throwable error, final StackTraceElement[] enclosingTrace, final int depth) {
+            this.error = error;
+            this.enclosingTrace = enclosingTrace;
+            this.depth = depth;
+        }
     }
 }
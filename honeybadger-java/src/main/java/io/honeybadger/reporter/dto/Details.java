@@ -3,15 +3,13 @@ package io.honeybadger.reporter.dto;
 import com.fasterxml.jackson.annotation.JacksonInject;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.honeybadger.reporter.config.ConfigContext;
 import org.slf4j.MDC;
 
 import java.io.Serializable;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.TreeMap;
 
 /**
  * Class representing metadata and run-time state.
@@ -19,6 +17,7 @@ import java.util.TreeMap;
  * @since 1.0.9
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = JsonFragments.DetailsSerializer.class)
 public class Details extends LinkedHashMap<String, Map<String, String>>
         implements Serializable {
     private static final long serialVersionUID = -6238693264237448645L;
@@ -50,31 +49,10 @@ public class Details extends LinkedHashMap<String, Map<String, String>>
         return map;
     }
 
+    /**
+     * @return sorted, unmodifiable map of the system properties that aren't excluded
+     */
     protected Map<String, String> systemProperties() {
-        TreeMap<String, String> map = new TreeMap<>();
-        Set<String> excludedSysProps = config.getExcludedSysProps();
-
-        for (Map.Entry<Object, Object> entry: System.getProperties().entrySet()) {
-            final Object key = entry.getKey();
-
-            if (key == null) {
-                continue;
-            }
-
-            final String stringKey = Objects.toString(key);
-
-            if (stringKey.isEmpty()) {
-                continue;
-            }
-
-            // We skip all excluded properties
-            if (excludedSysProps.contains(stringKey)) {
-                continue;
-            }
-
-            map.put(stringKey, entry.getValue().toString());
-        }
-
-        return map;
+        return SystemPropertiesSnapshot.get(config.getExcludedSysProps());
     }
 }
@@ -0,0 +1,86 @@
+package io.honeybadger.reporter.dto;
+
+import io.honeybadger.reporter.config.ConfigContext;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of the {@link BacktraceElement}s created for stack frames. A running
+ * application throws from the same few thousand frames over and over, so
+ * converting a stack trace is mostly a matter of hash lookups and notices
+ * kept in memory share their backtrace elements.
+ *
+ * <p>Whether a frame belongs to the application depends on the configured
+ * application packages, so there is one cache per set of application and
+ * excluded packages. Cached elements keep a reference to the configuration
+ * they were first created with.</p>
+ *
+ * @since 2.0.1
+ */
+final class FrameCache {
+    /**
+     * Maximum number of frames cached per set of application packages. Frames that
+     * aren't cached yet are converted without being cached past this limit,
+     * so code generating unique frames can't use unbounded memory.
+     */
+    static final int MAX_FRAMES = 10_000;
+
+    private static final ConcurrentMap<ApplicationPackages, FrameCache> SHARED_CACHES = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<StackTraceElement, BacktraceElement> frames = new ConcurrentHashMap<>();
+
+    /**
+     * @param config configuration to read the application packages from
+     * @return cache shared by all configurations with the same application packages
+     */
+    static FrameCache forConfig(final ConfigContext config) {
+        return forPackages(ApplicationPackages.forConfig(config));
+    }
+
+    /**
+     * @param packages application packages the elements are classified with
+     * @return cache shared by all configurations with the same application packages
+     */
+    static FrameCache forPackages(final ApplicationPackages packages) {
+        return SHARED_CACHES.computeIfAbsent(packages, k -> new FrameCache());
+    }
+
+    /**
+     * @param config configuration used to create elements that aren't cached yet
+     * @param frame stack frame to convert
+     * @return backtrace element for the frame
+     */
+    BacktraceElement get(final ConfigContext config, final StackTraceElement frame) {
+        final BacktraceElement cached = frames.get(frame);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final BacktraceElement element = new BacktraceElement(config, frame);
+
+        if (frames.size() >= MAX_FRAMES) {
+            return element;
+        }
+
+        final BacktraceElement existing = frames.putIfAbsent(frame, element);
+
+        return existing != null ? existing : element;
+    }
+
+    /**
+     * @param frame stack frame to look up
+     * @return cached backtrace element for the frame or null if there is none
+     */
+    BacktraceElement cached(final StackTraceElement frame) {
+        return frames.get(frame);
+    }
+
+    /**
+     * @return number of cached frames
+     */
+    int size() {
+        return frames.size();
+    }
+}
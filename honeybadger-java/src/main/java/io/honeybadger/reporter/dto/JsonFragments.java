@@ -0,0 +1,224 @@
+package io.honeybadger.reporter.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Serializers that write the parts of a notice that are the same for every
+ * notice as pre-rendered JSON. The notifier block, the process identity
+ * fields of the server block and the system properties are rendered to JSON
+ * once, cached as UTF-8 bytes and copied into the generator as raw values,
+ * instead of being walked reflectively for every notice.
+ *
+ * <p>Each cached fragment remembers the values it was rendered from and is
+ * rendered again when they change, for example when a reporter with another
+ * environment is used or when the system properties snapshot is rebuilt.
+ * Generators that can't take raw JSON, such as the {@link TokenBuffer} used
+ * by {@link ObjectMapper#valueToTree(Object)}, get the fields one by one.</p>
+ *
+ * @since 2.0.1
+ */
+final class JsonFragments {
+    private static final ObjectMapper FRAGMENT_MAPPER = new ObjectMapper();
+
+    private JsonFragments() {
+    }
+
+    /**
+     * Renders a value to JSON that is cached as UTF-8 bytes when it is first
+     * written to a generator.
+     *
+     * @param value value to render
+     * @return rendered JSON
+     * @throws IOException thrown when the value can't be rendered
+     */
+    static SerializableString render(final Object value) throws IOException {
+        return new SerializedString(FRAGMENT_MAPPER.writeValueAsString(value));
+    }
+
+    private static boolean acceptsRawJson(final JsonGenerator gen) {
+        return !(gen instanceof TokenBuffer);
+    }
+
+    /**
+     * Fragment rendered for the most recent set of values.
+     */
+    private static final class CachedFragment {
+        private final Object[] values;
+        private final SerializableString json;
+
+        CachedFragment(final Object[] values, final String json) {
+            this.values = values;
+            this.json = new SerializedString(json);
+        }
+    }
+
+    /**
+     * Writes {@link Notifier} from a fragment rendered once per process.
+     */
+    static final class NotifierSerializer extends JsonSerializer<Notifier> {
+        private static volatile CachedFragment cache;
+
+        @Override
+        public void serialize(final Notifier notifier, final JsonGenerator gen,
+                              final SerializerProvider serializers) throws IOException {
+            final Object[] values = {notifier.getName(), notifier.getUrl(), notifier.getVersion()};
+
+            if (!acceptsRawJson(gen)) {
+                serializers.defaultSerializeValue(fields(values), gen);
+                return;
+            }
+
+            CachedFragment fragment = cache;
+
+            if (fragment == null || !Arrays.equals(fragment.values, values)) {
+                fragment = new CachedFragment(values,
+                        FRAGMENT_MAPPER.writeValueAsString(fields(values)));
+                cache = fragment;
+            }
+
+            gen.writeRawValue(fragment.json);
+        }
+
+        private static Map<String, Object> fields(final Object[] values) {
+            final Map<String, Object> fields = new LinkedHashMap<>(4);
+            putIfNotNull(fields, "name", values[0]);
+            putIfNotNull(fields, "url", values[1]);
+            putIfNotNull(fields, "version", values[2]);
+
+            return fields;
+        }
+    }
+
+    /**
+     * Writes the environment name, hostname, project root and pid of
+     * {@link ServerDetails} from values rendered once and cached. The time and
+     * stats change for every notice and are serialized as usual.
+     */
+    static final class ServerDetailsSerializer extends JsonSerializer<ServerDetails> {
+        private static final SerializableString[] IDENTITY_FIELDS = {
+                new SerializedString("environment_name"), new SerializedString("hostname"),
+                new SerializedString("project_root"), new SerializedString("pid")};
+
+        private static volatile CachedFields cache;
+
+        @Override
+        public void serialize(final ServerDetails server, final JsonGenerator gen,
+                              final SerializerProvider serializers) throws IOException {
+            final Object[] values = {server.getEnvironmentName(), server.getHostname(),
+                    server.getProjectRoot(), server.getPid()};
+
+            gen.writeStartObject();
+
+            if (acceptsRawJson(gen)) {
+                writeIdentityFragments(values, gen);
+            } else {
+                writeIdentityFields(values, gen, serializers);
+            }
+
+            if (server.getTime() != null) {
+                gen.writeStringField("time", server.getTime());
+            }
+
+            if (server.getStats() != null) {
+                gen.writeFieldName("stats");
+                serializers.defaultSerializeValue(server.getStats(), gen);
+            }
+
+            gen.writeEndObject();
+        }
+
+        private static void writeIdentityFragments(final Object[] values, final JsonGenerator gen)
+                throws IOException {
+            CachedFields fields = cache;
+
+            if (fields == null || !Arrays.equals(fields.values, values)) {
+                fields = new CachedFields(values);
+                cache = fields;
+            }
+
+            // Field names are written as usual, so the generator keeps track of commas
+            for (int i = 0; i < IDENTITY_FIELDS.length; i++) {
+                if (fields.json[i] != null) {
+                    gen.writeFieldName(IDENTITY_FIELDS[i]);
+                    gen.writeRawValue(fields.json[i]);
+                }
+            }
+        }
+
+        private static void writeIdentityFields(final Object[] values, final JsonGenerator gen,
+                                                final SerializerProvider serializers)
+                throws IOException {
+            for (int i = 0; i < IDENTITY_FIELDS.length; i++) {
+                if (values[i] != null) {
+                    serializers.defaultSerializeField(IDENTITY_FIELDS[i].getValue(), values[i], gen);
+                }
+            }
+        }
+
+        /**
+         * Values rendered for the most recent process identity, null where
+         * the field is left out.
+         */
+        private static final class CachedFields {
+            private final Object[] values;
+            private final SerializableString[] json;
+
+            CachedFields(final Object[] values) throws IOException {
+                this.values = values;
+                this.json = new SerializableString[values.length];
+
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] != null) {
+                        json[i] = render(values[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes {@link Details}, using the fragment cached with the system
+     * properties snapshot for the system properties.
+     */
+    static final class DetailsSerializer extends JsonSerializer<Details> {
+        @Override
+        public void serialize(final Details details, final JsonGenerator gen,
+                              final SerializerProvider serializers) throws IOException {
+            final boolean raw = acceptsRawJson(gen);
+
+            gen.writeStartObject();
+
+            for (Map.Entry<String, Map<String, String>> entry : details.entrySet()) {
+                final SerializableString fragment = raw ?
+                        SystemPropertiesSnapshot.fragmentFor(entry.getValue()) : null;
+
+                if (fragment != null) {
+                    gen.writeFieldName(entry.getKey());
+                    gen.writeRawValue(fragment);
+                } else {
+                    serializers.defaultSerializeField(entry.getKey(), entry.getValue(), gen);
+                }
+            }
+
+            gen.writeEndObject();
+        }
+    }
+
+    private static void putIfNotNull(final Map<String, Object> fields, final String name,
+                                     final Object value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
+}
@@ -9,9 +9,7 @@ import java.io.File;
 import java.io.Serializable;
 import java.lang.management.ManagementFactory;
 import java.lang.management.OperatingSystemMXBean;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.Scanner;
 
 /**
  * Class containing statistics about the host system's load average.
@@ -23,6 +21,8 @@ import java.util.Scanner;
 public class Load implements Serializable {
     private static final long serialVersionUID = 3398000045209329774L;
 
+    private static final String LINUX_LOADAVG_PATH = "/proc/loadavg";
+
     private final Number one;
     private final Number five;
     private final Number fifteen;
@@ -63,32 +63,29 @@ public class Load implements Serializable {
     }
 
     static Number[] findLinuxLoadAverages(final OperatingSystemMXBean osBean) {
-        File loadavg = new File("/proc/loadavg");
+        return findLinuxLoadAverages(osBean, new File(LINUX_LOADAVG_PATH));
+    }
 
+    static Number[] findLinuxLoadAverages(final OperatingSystemMXBean osBean,
+                                          final File loadavg) {
         if (loadavg.exists() &&  loadavg.isFile() && loadavg.canRead()) {
-            try (Scanner scanner = new Scanner(loadavg,
-                    StandardCharsets.US_ASCII.name())) {
-                if (!scanner.hasNext()) {
+            try {
+                final double[] values = ProcFsReader.shared().readDecimalFields(loadavg, 3);
+
+                if (Double.isNaN(values[0]) || Double.isNaN(values[1]) || Double.isNaN(values[2])) {
                     return defaultLoadAverages(osBean);
                 }
 
-                final String line = scanner.nextLine();
-                final String[] values = line.split(" ", 4);
-
-                return new Number[]{
-                        Double.parseDouble(values[0]),
-                        Double.parseDouble(values[1]),
-                        Double.parseDouble(values[2])
-                };
+                return new Number[]{ values[0], values[1], values[2] };
 
             } catch (Exception e) {
                 LoggerFactory.getLogger(Load.class)
-                        .debug("Error reading /proc/loadavg", e);
+                        .debug("Error reading {}", loadavg, e);
                 return defaultLoadAverages(osBean);
             }
         } else {
             LoggerFactory.getLogger(Load.class)
-                    .debug("Couldn't fid or access /proc/loadavg");
+                    .debug("Couldn't find or access {}", loadavg);
             return defaultLoadAverages(osBean);
         }
     }
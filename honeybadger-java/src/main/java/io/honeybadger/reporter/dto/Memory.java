@@ -10,13 +10,9 @@ import java.io.Serializable;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.OperatingSystemMXBean;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Scanner;
-
-import static io.honeybadger.util.HBStringUtils.isPresent;
 
 /**
  * Class containing the current state of memory on the running JVM.
@@ -30,6 +26,12 @@ public class Memory implements Serializable {
 
     private static final String LINUX_MEMINFO_PATH = "/proc/meminfo";
     public static final int JVM_INFO_INITIAL_CAPACITY = 10;
+    /** Keys of /proc/meminfo that are reported. */
+    private static final String[] MEMINFO_KEYS = {"MemTotal", "MemFree", "Buffers", "Cached"};
+    private static final byte[][] MEMINFO_KEY_BYTES = {
+            ProcFsReader.key("MemTotal"), ProcFsReader.key("MemFree"),
+            ProcFsReader.key("Buffers"), ProcFsReader.key("Cached")
+    };
 
     private final Number total;
     private final Number free;
@@ -101,25 +103,19 @@ public class Memory implements Serializable {
     }
 
     static Map<String, Long> findLinuxMemInfo(final File memInfoFile) {
-        final HashMap<String, Long> memInfo = new HashMap<>(50);
+        final HashMap<String, Long> memInfo = new HashMap<>(MEMINFO_KEYS.length * 2);
 
         final long mebibyteMultiplier = 1024L;
 
         if (memInfoFile.exists() && memInfoFile.isFile() && memInfoFile.canRead()) {
-            try (Scanner scanner = new Scanner(memInfoFile,
-                    StandardCharsets.US_ASCII.name())) {
-                while (scanner.hasNext()) {
-                    final String line = scanner.nextLine();
-                    final String[] fields = line.split("(:?)\\s+", 3);
-                    final String name = fields[0];
-                    final String kbValue = fields[1];
-                    final Long mbValue = Long.parseLong(kbValue) / mebibyteMultiplier;
-
-                    if (!isPresent(name) || !isPresent(kbValue)) {
-                        continue;
-                    }
+            try {
+                final long[] kbValues = ProcFsReader.shared()
+                        .readKeyedValues(memInfoFile, MEMINFO_KEY_BYTES);
 
-                    memInfo.put(name, mbValue);
+                for (int i = 0; i < MEMINFO_KEYS.length; i++) {
+                    if (kbValues[i] != ProcFsReader.MISSING) {
+                        memInfo.put(MEMINFO_KEYS[i], kbValues[i] / mebibyteMultiplier);
+                    }
                 }
 
                 final long free = memInfo.getOrDefault("MemFree", 0L);
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * Details of the error being reported to the Honeybadger API.
@@ -16,7 +17,7 @@ import java.util.Set;
  * @since 1.0.9
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({"class", "message", "tags", "backtrace", "causes"})
+@JsonPropertyOrder({"token", "class", "message", "tags", "backtrace", "causes"})
 public class NoticeDetails implements Serializable {
     private static final long serialVersionUID = -3055963787038629496L;
 
@@ -26,6 +27,7 @@ public class NoticeDetails implements Serializable {
     private final Set<String> tags;
     private final Backtrace backtrace;
     private final Causes causes;
+    private UUID token;
 
     @SuppressWarnings("unchecked")
     public NoticeDetails(final ConfigContext config, final Throwable error) {
@@ -58,12 +60,13 @@ public class NoticeDetails implements Serializable {
                 Objects.equals(getMessage(), that.getMessage()) &&
                 Objects.equals(getTags(), that.getTags()) &&
                 Objects.equals(getBacktrace(), that.getBacktrace()) &&
-                Objects.equals(getCauses(), that.getCauses());
+                Objects.equals(getCauses(), that.getCauses()) &&
+                Objects.equals(getToken(), that.getToken());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getClassName(), getMessage(), getTags(), getBacktrace(), getCauses());
+        return Objects.hash(getClassName(), getMessage(), getTags(), getBacktrace(), getCauses(), getToken());
     }
 
     public String getClassName() {
@@ -85,4 +88,24 @@ public class NoticeDetails implements Serializable {
     public Causes getCauses() {
         return causes;
     }
+
+    /**
+     * @return ID chosen by the notifier for the error or null if the
+     *         Honeybadger API assigns the ID
+     */
+    public UUID getToken() {
+        return token;
+    }
+
+    /**
+     * Sets the ID of the error, so that it is known before the notice is
+     * sent. The Honeybadger API uses this ID for the error it creates.
+     *
+     * @param token ID of the error
+     * @return this instance
+     */
+    public NoticeDetails setToken(final UUID token) {
+        this.token = token;
+        return this;
+    }
 }
@@ -1,6 +1,7 @@
 package io.honeybadger.reporter.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.jcabi.manifests.Manifests;
 
 import java.io.Serializable;
@@ -12,6 +13,7 @@ import java.util.Objects;
  * @since 1.0.9
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = JsonFragments.NotifierSerializer.class)
 public class Notifier implements Serializable {
     public static final String VERSION;
 
@@ -0,0 +1,223 @@
+package io.honeybadger.reporter.dto;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads Linux procfs files such as <code>/proc/meminfo</code> and
+ * <code>/proc/loadavg</code> without regular expressions, Scanners or
+ * intermediate Strings. Files are read through a {@link FileChannel} into a
+ * direct buffer that is reused across reads, and only the requested values
+ * are parsed as primitives.
+ *
+ * <p>procfs files report a size of zero, so files are read until the end of
+ * the channel. Anything that doesn't fit into the buffer is ignored, which is
+ * fine for the small files this class is used for.</p>
+ *
+ * <p>Reads are synchronized because the buffer is shared.</p>
+ *
+ * @since 2.0.1
+ */
+final class ProcFsReader {
+    /** Size of the read buffer in bytes. /proc/meminfo is usually under 2 KiB. */
+    static final int BUFFER_SIZE = 16 * 1024;
+
+    /** Value returned for keys that weren't found. */
+    static final long MISSING = -1L;
+
+    /** Fraction digits past this precision are ignored so that the scale doesn't overflow. */
+    private static final long MAX_FRACTION_SCALE = 1_000_000_000L;
+
+    private static final ProcFsReader SHARED = new ProcFsReader(BUFFER_SIZE);
+
+    private final ByteBuffer buffer;
+
+    ProcFsReader(final int bufferSize) {
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * @return reader shared by all callers in the JVM
+     */
+    static ProcFsReader shared() {
+        return SHARED;
+    }
+
+    /**
+     * Reads the values of keys from a file in the format of
+     * <code>/proc/meminfo</code>: one <code>Key: value [unit]</code> entry per line.
+     *
+     * @param file file to read
+     * @param keys keys to read, encoded as ASCII
+     * @return the values of the keys in the same order, {@link #MISSING} for keys not found
+     * @throws IOException thrown when the file can't be read
+     */
+    synchronized long[] readKeyedValues(final File file, final byte[]... keys) throws IOException {
+        final int length = fill(file);
+        final long[] values = new long[keys.length];
+        Arrays.fill(values, MISSING);
+
+        int found = 0;
+        int lineStart = 0;
+
+        while (lineStart < length && found < keys.length) {
+            final int lineEnd = indexOf('\n', lineStart, length);
+
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] == MISSING && startsWithKey(lineStart, lineEnd, keys[i])) {
+                    values[i] = parseLong(lineStart + keys[i].length + 1, lineEnd);
+                    found++;
+                    break;
+                }
+            }
+
+            lineStart = lineEnd + 1;
+        }
+
+        return values;
+    }
+
+    /**
+     * Reads the first whitespace separated decimal fields of a file in the
+     * format of <code>/proc/loadavg</code>.
+     *
+     * @param file file to read
+     * @param count number of fields to read
+     * @return the fields in order, {@link Double#NaN} for fields not found
+     * @throws IOException thrown when the file can't be read
+     */
+    synchronized double[] readDecimalFields(final File file, final int count) throws IOException {
+        final int length = fill(file);
+        final double[] fields = new double[count];
+        Arrays.fill(fields, Double.NaN);
+
+        int position = 0;
+
+        for (int i = 0; i < count; i++) {
+            while (position < length && isSpace(buffer.get(position))) {
+                position++;
+            }
+
+            final int end = fieldEnd(position, length);
+
+            if (end == position) break;
+
+            fields[i] = parseDecimal(position, end);
+            position = end;
+        }
+
+        return fields;
+    }
+
+    /**
+     * Encodes a key for {@link #readKeyedValues(File, byte[]...)}.
+     *
+     * @param key key as it appears before the colon
+     * @return the key encoded as ASCII
+     */
+    static byte[] key(final String key) {
+        return key.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private int fill(final File file) throws IOException {
+        buffer.clear();
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // procfs hands out files in chunks, keep reading until EOF
+            }
+        }
+
+        return buffer.position();
+    }
+
+    private int indexOf(final char c, final int from, final int limit) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == c) return i;
+        }
+
+        return limit;
+    }
+
+    private boolean startsWithKey(final int lineStart, final int lineEnd, final byte[] key) {
+        if (lineEnd - lineStart <= key.length || buffer.get(lineStart + key.length) != ':') {
+            return false;
+        }
+
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(lineStart + i) != key[i]) return false;
+        }
+
+        return true;
+    }
+
+    private long parseLong(final int from, final int limit) {
+        int position = from;
+
+        while (position < limit && isSpace(buffer.get(position))) {
+            position++;
+        }
+
+        long value = 0L;
+        boolean digits = false;
+
+        for (; position < limit; position++) {
+            final byte b = buffer.get(position);
+
+            if (b < '0' || b > '9') break;
+
+            value = value * 10 + (b - '0');
+            digits = true;
+        }
+
+        return digits ? value : MISSING;
+    }
+
+    private int fieldEnd(final int from, final int limit) {
+        int position = from;
+
+        while (position < limit && !isSpace(buffer.get(position))) {
+            position++;
+        }
+
+        return position;
+    }
+
+    private double parseDecimal(final int from, final int limit) {
+        long integer = 0L;
+        long fraction = 0L;
+        long scale = 1L;
+        boolean inFraction = false;
+
+        for (int position = from; position < limit; position++) {
+            final byte b = buffer.get(position);
+
+            if (b == '.' && !inFraction) {
+                inFraction = true;
+            } else if (b >= '0' && b <= '9') {
+                if (inFraction) {
+                    if (scale >= MAX_FRACTION_SCALE) continue;
+
+                    fraction = fraction * 10 + (b - '0');
+                    scale *= 10;
+                } else {
+                    integer = integer * 10 + (b - '0');
+                }
+            } else {
+                return Double.NaN;
+            }
+        }
+
+        // A single division of exact integers is correctly rounded, so 1.36 parses as 1.36
+        return (double)(integer * scale + fraction) / scale;
+    }
+
+    private static boolean isSpace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\n';
+    }
+}
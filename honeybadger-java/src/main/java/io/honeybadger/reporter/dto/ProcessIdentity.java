@@ -0,0 +1,183 @@
+package io.honeybadger.reporter.dto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hostname, project root and process id of the running JVM, resolved once
+ * per process so that notices only copy the cached values.
+ *
+ * <p>When the hostname isn't available from the environment it is looked up
+ * with {@link java.net.InetAddress#getLocalHost()}, which may block on DNS.
+ * The lookup runs on a daemon thread and reports never wait for it: until it
+ * completes, the hostname is reported as "unknown", and notices reported
+ * afterwards carry the real hostname however long the lookup took. A lookup
+ * that fails is retried a few times with growing delays, because DNS is
+ * often not ready yet when a container starts.</p>
+ *
+ * @since 2.0.1
+ */
+public final class ProcessIdentity {
+    /** Time in milliseconds after which a hostname lookup is logged as slow. */
+    static final long SLOW_HOSTNAME_LOOKUP_MILLIS = 5_000L;
+
+    /** Maximum number of hostname lookups made before giving up. */
+    static final int MAX_HOSTNAME_LOOKUPS = 5;
+
+    /** Delay in milliseconds before the first repeated lookup, doubled after each failure. */
+    static final long HOSTNAME_RETRY_DELAY_MILLIS = 1_000L;
+
+    /** Hostname reported when it can't be determined. */
+    static final String UNKNOWN_HOSTNAME = "unknown";
+
+    private static final Object LOCK = new Object();
+
+    private static volatile ProcessIdentity current;
+
+    private final String hostname;
+    private final String projectRoot;
+    private final Integer pid;
+
+    ProcessIdentity(final String hostname, final String projectRoot, final Integer pid) {
+        this.hostname = hostname;
+        this.projectRoot = projectRoot;
+        this.pid = pid;
+    }
+
+    /**
+     * Returns the identity of the running process, resolving it on the first
+     * call. Call this early, for example when a reporter is created, so that a
+     * hostname lookup can finish before the first error is reported.
+     *
+     * @return the identity of the running process
+     */
+    public static ProcessIdentity get() {
+        ProcessIdentity identity = current;
+
+        if (identity == null) {
+            synchronized (LOCK) {
+                if (current == null) {
+                    current = resolve();
+                }
+
+                identity = current;
+            }
+        }
+
+        return identity;
+    }
+
+    private static ProcessIdentity resolve() {
+        final String projectRoot = ServerDetails.projectRoot();
+        final Integer pid = ServerDetails.pid();
+        final String hostname = environmentHostname();
+
+        if (hostname != null) {
+            return new ProcessIdentity(hostname, projectRoot, pid);
+        }
+
+        lookUpHostname(projectRoot, pid);
+
+        return new ProcessIdentity(UNKNOWN_HOSTNAME, projectRoot, pid);
+    }
+
+    private static String environmentHostname() {
+        if (System.getenv("HOSTNAME") != null) {
+            return System.getenv("HOSTNAME");
+        }
+
+        return System.getenv("COMPUTERNAME");
+    }
+
+    private static void lookUpHostname(final String projectRoot, final Integer pid) {
+        final Thread lookup = new Thread(() -> {
+            final String hostname = lookUpWithRetries(
+                    () -> InetAddress.getLocalHost().getHostName(),
+                    HOSTNAME_RETRY_DELAY_MILLIS, MAX_HOSTNAME_LOOKUPS);
+
+            if (hostname != null) {
+                current = new ProcessIdentity(hostname, projectRoot, pid);
+            }
+        }, "honeybadger-hostname-lookup");
+
+        lookup.setDaemon(true);
+        lookup.start();
+    }
+
+    /**
+     * Looks up the hostname, retrying failed lookups with a doubling delay.
+     *
+     * @param lookup hostname lookup
+     * @param retryDelayMillis delay before the first retry
+     * @param maxLookups maximum number of lookups
+     * @return the hostname or null if every lookup failed
+     */
+    static String lookUpWithRetries(final HostnameLookup lookup, final long retryDelayMillis,
+                                    final int maxLookups) {
+        final Logger logger = LoggerFactory.getLogger(ProcessIdentity.class);
+        long delayMillis = retryDelayMillis;
+
+        for (int lookups = 1; ; lookups++) {
+            final long startedNanos = System.nanoTime();
+
+            try {
+                final String hostname = lookup.hostname();
+                final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+
+                if (elapsedMillis > SLOW_HOSTNAME_LOOKUP_MILLIS) {
+                    logger.warn("Hostname lookup took {}ms, it was reported as {} until then",
+                            elapsedMillis, UNKNOWN_HOSTNAME);
+                }
+
+                return hostname;
+            } catch (UnknownHostException e) {
+                if (lookups >= maxLookups) {
+                    logger.error("Unable to find hostname, reporting it as {}", UNKNOWN_HOSTNAME, e);
+                    return null;
+                }
+            }
+
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            delayMillis *= 2;
+        }
+    }
+
+    /**
+     * Source of the hostname, so that lookups can be replaced in tests.
+     */
+    @FunctionalInterface
+    interface HostnameLookup {
+        String hostname() throws UnknownHostException;
+    }
+
+    /**
+     * @return the hostname of the system, "unknown" if not known (yet)
+     */
+    public String getHostname() {
+        return hostname;
+    }
+
+    /**
+     * @return the directory in which the JVM was started
+     */
+    public String getProjectRoot() {
+        return projectRoot;
+    }
+
+    /**
+     * @return process id of the JVM or null if not found
+     */
+    public Integer getPid() {
+        return pid;
+    }
+}
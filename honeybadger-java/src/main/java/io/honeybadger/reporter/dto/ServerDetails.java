@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.honeybadger.reporter.config.ConfigContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,8 +13,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
 import java.lang.management.ManagementFactory;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -26,6 +25,7 @@ import java.util.TimeZone;
  * @since 1.0.9
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = JsonFragments.ServerDetailsSerializer.class)
 @JsonPropertyOrder({"environment_name", "hostname", "project_root", "pid", "time", "stats", ""})
 public class ServerDetails implements Serializable {
     private static final long serialVersionUID = 4689643321013504425L;
@@ -40,12 +40,14 @@ public class ServerDetails implements Serializable {
     private final Stats stats;
 
     public ServerDetails(final ConfigContext context) {
+        final ProcessIdentity identity = ProcessIdentity.get();
+
         this.environmentName = context.getEnvironment();
-        this.hostname = hostname();
-        this.projectRoot = projectRoot();
-        this.pid = pid();
+        this.hostname = identity.getHostname();
+        this.projectRoot = identity.getProjectRoot();
+        this.pid = identity.getPid();
         this.time = time();
-        this.stats = new Stats();
+        this.stats = StatsSampler.forConfig(context).current();
     }
 
     @JsonCreator
@@ -67,26 +69,12 @@ public class ServerDetails implements Serializable {
      * Attempt to find the hostname of the system reporting the error to
      * Honeybadger.
      *
-     * @return the hostname of the system reporting the error, "unknown" if not found
+     * @return the hostname of the system reporting the error, "unknown" if not
+     *         found or while it is still being looked up
+     * @see ProcessIdentity#getHostname()
      */
     protected static String hostname() {
-        String host;
-
-        if (System.getenv("HOSTNAME") != null) {
-            host = System.getenv("HOSTNAME");
-        } else if (System.getenv("COMPUTERNAME") != null) {
-            host = System.getenv("COMPUTERNAME");
-        } else {
-            try {
-                host = InetAddress.getLocalHost().getHostName();
-            } catch (UnknownHostException e) {
-                logger.error("Unable to find hostname", e);
-                host = "unknown";
-            }
-
-        }
-
-        return host;
+        return ProcessIdentity.get().getHostname();
     }
 
     /**
@@ -0,0 +1,111 @@
+package io.honeybadger.reporter.dto;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples host memory and load statistics on a fixed interval so that
+ * notices can reference the latest snapshot instead of reading
+ * <code>/proc</code> and the JVM's memory beans for every error. Since
+ * {@link Stats} is immutable, a single snapshot is shared by every notice
+ * created until the next sample is taken.
+ *
+ * <p>Samplers are shared by all reporters configured with the same interval
+ * and refresh on a single daemon thread. An interval of 0 disables sampling,
+ * in which case every call to {@link #current()} reads fresh values.</p>
+ *
+ * @since 2.0.1
+ */
+public final class StatsSampler {
+    private static final ConcurrentMap<Long, StatsSampler> SHARED_SAMPLERS =
+            new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService SAMPLER_EXECUTOR =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "honeybadger-stats-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final long intervalMillis;
+    private volatile Stats latest;
+
+    /**
+     * Creates a sampler that isn't refreshed in the background. Call
+     * {@link #sample()} to update it.
+     *
+     * @param intervalMillis milliseconds between samples, 0 to read fresh values every time
+     */
+    StatsSampler(final long intervalMillis) {
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.stats_interval_millis " +
+                    "must be an integer greater than or equal to 0");
+        }
+
+        this.intervalMillis = intervalMillis;
+        this.latest = intervalMillis > 0 ? new Stats() : null;
+    }
+
+    /**
+     * Finds the sampler shared by all reporters with the same sampling
+     * interval, creating and starting it if needed.
+     *
+     * @param config configuration to read the sampling interval from
+     * @return shared sampler
+     */
+    public static StatsSampler forConfig(final ConfigContext config) {
+        final Integer interval = config.getStatsInterval();
+        final long intervalMillis = interval == null ? 0L : interval;
+
+        return SHARED_SAMPLERS.computeIfAbsent(intervalMillis, StatsSampler::start);
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private static StatsSampler start(final long intervalMillis) {
+        final StatsSampler sampler = new StatsSampler(intervalMillis);
+
+        if (intervalMillis > 0) {
+            SAMPLER_EXECUTOR.scheduleWithFixedDelay(sampler::sample, intervalMillis,
+                    intervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        return sampler;
+    }
+
+    /**
+     * @return the latest snapshot of host statistics, or fresh statistics if sampling is disabled
+     */
+    public Stats current() {
+        final Stats snapshot = latest;
+
+        return snapshot != null ? snapshot : new Stats();
+    }
+
+    /**
+     * Replaces the latest snapshot with fresh statistics.
+     */
+    void sample() {
+        if (intervalMillis <= 0) return;
+
+        try {
+            latest = new Stats();
+        } catch (RuntimeException e) {
+            // An exception would cancel the scheduled sampling, so keep the old snapshot
+            LoggerFactory.getLogger(StatsSampler.class)
+                    .debug("Unable to sample host statistics", e);
+        }
+    }
+
+    /**
+     * @return milliseconds between samples, 0 if every read is fresh
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+}
@@ -0,0 +1,159 @@
+package io.honeybadger.reporter.dto;
+
+import com.fasterxml.jackson.core.SerializableString;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable, sorted copy of the system properties that is shared by every
+ * notice until the properties change. System properties hardly ever change
+ * at runtime, so rebuilding the map for every notice is wasted work.
+ *
+ * <p>Changes are detected with a fingerprint of the properties table: its
+ * identity and size are compared on every call, which catches properties
+ * being added, removed or replaced wholesale. Changed values of existing
+ * properties are caught by comparing the table's hash code, which is
+ * done at most every {@link #REVALIDATE_INTERVAL_MILLIS} milliseconds. Call
+ * {@link #invalidate()} after changing a property to have the change
+ * reported immediately.</p>
+ *
+ * @since 2.0.1
+ */
+public final class SystemPropertiesSnapshot {
+    /** Minimum time in milliseconds between hash code checks of the properties. */
+    static final long REVALIDATE_INTERVAL_MILLIS = 1_000L;
+
+    private static volatile SystemPropertiesSnapshot current;
+
+    private final Properties properties;
+    private final int size;
+    private final int hash;
+    private final Set<String> excluded;
+    private final Map<String, String> map;
+    private volatile long validatedNanos;
+    private volatile SerializableString json;
+
+    private SystemPropertiesSnapshot(final Properties properties, final Set<String> excluded) {
+        this.properties = properties;
+        this.excluded = excluded;
+
+        // Holding the table's lock keeps the fingerprint consistent with the copy
+        synchronized (properties) {
+            this.size = properties.size();
+            this.hash = properties.hashCode();
+            this.map = Collections.unmodifiableMap(copy(properties, excluded));
+        }
+
+        this.validatedNanos = System.nanoTime();
+    }
+
+    /**
+     * @param excluded names of properties to leave out
+     * @return sorted, unmodifiable map of the current system properties
+     */
+    public static Map<String, String> get(final Set<String> excluded) {
+        final Properties properties = System.getProperties();
+        final SystemPropertiesSnapshot snapshot = current;
+
+        if (snapshot != null && snapshot.isCurrent(properties, excluded)) {
+            return snapshot.map;
+        }
+
+        final SystemPropertiesSnapshot rebuilt = new SystemPropertiesSnapshot(properties, excluded);
+        current = rebuilt;
+
+        return rebuilt.map;
+    }
+
+    /**
+     * Finds the JSON rendering of a map returned by {@link #get(Set)},
+     * rendering it the first time it is asked for.
+     *
+     * @param map map to find the rendering of
+     * @return JSON of the map or null if it isn't the current snapshot
+     * @throws IOException thrown when the map can't be rendered
+     */
+    @SuppressWarnings("ReferenceEquality")
+    static SerializableString fragmentFor(final Map<String, String> map) throws IOException {
+        final SystemPropertiesSnapshot snapshot = current;
+
+        if (snapshot == null || snapshot.map != map) {
+            return null;
+        }
+
+        SerializableString rendered = snapshot.json;
+
+        if (rendered == null) {
+            rendered = JsonFragments.render(map);
+            snapshot.json = rendered;
+        }
+
+        return rendered;
+    }
+
+    /**
+     * Discards the snapshot so that the next notice reads the system
+     * properties again.
+     */
+    public static void invalidate() {
+        current = null;
+    }
+
+    // The identity of the table tells us whether System.setProperties() replaced it
+    @SuppressWarnings("ReferenceEquality")
+    private boolean isCurrent(final Properties currentProperties, final Set<String> currentExcluded) {
+        if (properties != currentProperties || size != currentProperties.size()
+                || !Objects.equals(excluded, currentExcluded)) {
+            return false;
+        }
+
+        final long now = System.nanoTime();
+
+        if (TimeUnit.NANOSECONDS.toMillis(now - validatedNanos) < REVALIDATE_INTERVAL_MILLIS) {
+            return true;
+        }
+
+        if (hash != currentProperties.hashCode()) {
+            return false;
+        }
+
+        validatedNanos = now;
+
+        return true;
+    }
+
+    private static TreeMap<String, String> copy(final Properties properties,
+                                                final Set<String> excluded) {
+        final TreeMap<String, String> map = new TreeMap<>();
+
+        for (Map.Entry<Object, Object> entry: properties.entrySet()) {
+            final Object key = entry.getKey();
+
+            if (key == null) {
+                continue;
+            }
+
+            final String stringKey = Objects.toString(key);
+
+            if (stringKey.isEmpty()) {
+                continue;
+            }
+
+            // We skip all excluded properties
+            if (excluded != null && excluded.contains(stringKey)) {
+                continue;
+            }
+
+            map.put(stringKey, entry.getValue().toString());
+        }
+
+        return map;
+    }
+}
@@ -0,0 +1,166 @@
+package io.honeybadger.reporter.dto;
+
+import io.honeybadger.reporter.config.ConfigContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shortens stack traces before they are converted to backtraces, the way
+ * {@link Throwable#printStackTrace()} does and then some:
+ *
+ * <ul>
+ *     <li>Frames a cause shares with the trace of the error it caused are
+ *     replaced with a single "common frames omitted" frame.</li>
+ *     <li>Cycles of up to {@value #MAX_CYCLE_LENGTH} frames repeated at least
+ *     {@value #MIN_CYCLE_REPEATS} times in a row, as in the trace of a
+ *     {@link StackOverflowError}, are reported once followed by a frame
+ *     giving the number of repeats.</li>
+ *     <li>Traces longer than <code>honeybadger.max_backtrace_frames</code>
+ *     are cut off after that many frames.</li>
+ * </ul>
+ *
+ * <p>The frames standing in for removed frames have {@value #MARKER_CLASS} as
+ * their class name and their description as their method name.</p>
+ *
+ * @since 2.0.1
+ */
+final class TraceCompactor {
+    /** Class name of the frames that stand in for removed frames. */
+    static final String MARKER_CLASS = "...";
+
+    /** Longest cycle of frames that is collapsed. */
+    static final int MAX_CYCLE_LENGTH = 32;
+
+    /** Minimum number of times a cycle has to occur in a row to be collapsed. */
+    static final int MIN_CYCLE_REPEATS = 3;
+
+    private TraceCompactor() {
+    }
+
+    /**
+     * @param frame stack frame to check
+     * @return true if the frame stands in for removed frames
+     */
+    static boolean isMarker(final StackTraceElement frame) {
+        return MARKER_CLASS.equals(frame.getClassName());
+    }
+
+    /**
+     * @param config configuration to read the frame limit from
+     * @param trace stack trace to shorten
+     * @param enclosingTrace stack trace of the error caused by the error being
+     *                       reported, or null if it is the outermost error
+     * @return the shortened trace, which is the passed trace when nothing was removed
+     */
+    static StackTraceElement[] compact(final ConfigContext config,
+                                       final StackTraceElement[] trace,
+                                       final StackTraceElement[] enclosingTrace) {
+        final int maxFrames = maxFrames(config);
+        final int common = commonFrames(trace, enclosingTrace);
+        final int end = trace.length - common;
+        final int[] hashes = new int[end];
+
+        for (int i = 0; i < end; i++) {
+            hashes[i] = trace[i].hashCode();
+        }
+
+        final List<StackTraceElement> frames = new ArrayList<>(end + 2);
+        int i = 0;
+
+        while (i < end) {
+            int cycleLength = 0;
+            int cycleRepeats = 0;
+
+            for (int length = 1; length <= MAX_CYCLE_LENGTH
+                    && i + length * MIN_CYCLE_REPEATS <= end; length++) {
+                int matching = 0;
+
+                while (i + length + matching < end
+                        && hashes[i + matching] == hashes[i + length + matching]
+                        && trace[i + matching].equals(trace[i + length + matching])) {
+                    matching++;
+                }
+
+                final int repeats = 1 + matching / length;
+
+                // Keep the cycle that removes the most frames
+                if (repeats >= MIN_CYCLE_REPEATS
+                        && (repeats - 1) * length > (cycleRepeats - 1) * cycleLength) {
+                    cycleLength = length;
+                    cycleRepeats = repeats;
+                }
+            }
+
+            if (cycleLength == 0) {
+                frames.add(trace[i++]);
+                continue;
+            }
+
+            for (int j = 0; j < cycleLength; j++) {
+                frames.add(trace[i + j]);
+            }
+
+            frames.add(marker("previous " + frameCount(cycleLength) + " repeated "
+                    + (cycleRepeats - 1) + " more times"));
+            i += cycleLength * cycleRepeats;
+        }
+
+        if (maxFrames > 0 && frames.size() > maxFrames) {
+            final int removed = frames.size() - maxFrames;
+            frames.subList(maxFrames, frames.size()).clear();
+            frames.add(marker(removed + " more"));
+        }
+
+        // Added after the cap, so that a cut trace never loses its markers
+        if (common > 0) {
+            frames.add(marker(frameCount(common) + " in common with the enclosing trace omitted"));
+        }
+
+        if (frames.size() == trace.length && common == 0) {
+            return trace;
+        }
+
+        return frames.toArray(new StackTraceElement[frames.size()]);
+    }
+
+    private static int maxFrames(final ConfigContext config) {
+        final Integer maxFrames = config.getMaxBacktraceFrames();
+
+        // Negative values are rejected when the configuration is validated
+        if (maxFrames == null || maxFrames < 0) {
+            return 0;
+        }
+
+        return maxFrames;
+    }
+
+    /**
+     * Counts the frames at the bottom of a trace that are the same as those at
+     * the bottom of the enclosing trace.
+     */
+    private static int commonFrames(final StackTraceElement[] trace,
+                                    final StackTraceElement[] enclosingTrace) {
+        if (enclosingTrace == null) {
+            return 0;
+        }
+
+        int m = trace.length - 1;
+        int n = enclosingTrace.length - 1;
+
+        while (m >= 0 && n >= 0 && trace[m].equals(enclosingTrace[n])) {
+            m--;
+            n--;
+        }
+
+        return trace.length - 1 - m;
+    }
+
+    private static String frameCount(final int count) {
+        return count == 1 ? "1 frame" : count + " frames";
+    }
+
+    private static StackTraceElement marker(final String description) {
+        return new StackTraceElement(MARKER_CLASS, "... " + description, null, -1);
+    }
+}
@@ -0,0 +1,24 @@
+package io.honeybadger.reporter.play;
+
+import io.honeybadger.reporter.RequestAdapter;
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.dto.PlayHttpRequestFactory;
+import io.honeybadger.reporter.dto.Request;
+import play.mvc.Http;
+
+/**
+ * {@link RequestAdapter} for Play Framework requests.
+ *
+ * @since 2.0.1
+ */
+public class PlayRequestAdapter implements RequestAdapter {
+    @Override
+    public Class<?> getRequestType() {
+        return Http.Request.class;
+    }
+
+    @Override
+    public Request adapt(final ConfigContext config, final Object request) {
+        return PlayHttpRequestFactory.create(config, (Http.Request) request);
+    }
+}
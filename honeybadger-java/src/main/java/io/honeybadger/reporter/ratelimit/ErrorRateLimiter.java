@@ -0,0 +1,113 @@
+package io.honeybadger.reporter.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the rate at which errors are reported with a global token bucket and
+ * a token bucket for each exception class. Either limit can be disabled.
+ * Errors are checked before their notice is built, so dropped errors cost a
+ * map lookup and a compare-and-set.
+ *
+ * @since 2.0.1
+ */
+public class ErrorRateLimiter {
+    /**
+     * Maximum number of exception classes with their own bucket. Classes past
+     * this limit are only subject to the global limit.
+     */
+    static final int MAX_TRACKED_CLASSES = 1_000;
+
+    private final TokenBucket globalBucket;
+    private final int perClassRate;
+    private final int perClassBurst;
+    private final ConcurrentMap<String, TokenBucket> classBuckets = new ConcurrentHashMap<>();
+    private final LongAdder globalDroppedCount = new LongAdder();
+    private final LongAdder classDroppedCount = new LongAdder();
+
+    /**
+     * @param globalRate errors per second across all classes or 0 for no limit
+     * @param globalBurst errors that may be reported at once across all classes
+     * @param perClassRate errors per second per exception class or 0 for no limit
+     * @param perClassBurst errors that may be reported at once per exception class
+     */
+    public ErrorRateLimiter(final int globalRate, final int globalBurst,
+                            final int perClassRate, final int perClassBurst) {
+        this.globalBucket = globalRate > 0 ?
+                new TokenBucket(globalRate, burst(globalRate, globalBurst)) : null;
+        this.perClassRate = perClassRate;
+        this.perClassBurst = burst(perClassRate, perClassBurst);
+    }
+
+    /**
+     * @param error error about to be reported
+     * @return true if the error may be reported, false if it must be dropped
+     */
+    public boolean tryAcquire(final Throwable error) {
+        final TokenBucket bucket = perClassRate > 0 ? classBucket(error.getClass().getName()) : null;
+
+        if (bucket != null && !bucket.tryAcquire()) {
+            classDroppedCount.increment();
+            return false;
+        }
+
+        if (globalBucket != null && !globalBucket.tryAcquire()) {
+            // The error isn't reported, so it mustn't use up its class's budget
+            if (bucket != null) {
+                bucket.release();
+            }
+
+            globalDroppedCount.increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @return number of errors dropped by either limit
+     */
+    public long getDroppedCount() {
+        return globalDroppedCount.sum() + classDroppedCount.sum();
+    }
+
+    /**
+     * @return number of errors dropped by the global limit
+     */
+    public long getGlobalDroppedCount() {
+        return globalDroppedCount.sum();
+    }
+
+    /**
+     * @return number of errors dropped by the per class limit
+     */
+    public long getClassDroppedCount() {
+        return classDroppedCount.sum();
+    }
+
+    /**
+     * @return true if either limit is enabled
+     */
+    public boolean isEnabled() {
+        return globalBucket != null || perClassRate > 0;
+    }
+
+    private TokenBucket classBucket(final String className) {
+        final TokenBucket bucket = classBuckets.get(className);
+
+        if (bucket != null || classBuckets.size() >= MAX_TRACKED_CLASSES) {
+            return bucket;
+        }
+
+        return classBuckets.computeIfAbsent(className,
+                name -> new TokenBucket(perClassRate, perClassBurst));
+    }
+
+    /**
+     * A burst of 0 means the bucket holds one second worth of tokens.
+     */
+    private static int burst(final int rate, final int burst) {
+        return burst > 0 ? burst : Math.max(rate, 1);
+    }
+}
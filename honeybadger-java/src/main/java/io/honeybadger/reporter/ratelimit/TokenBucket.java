@@ -0,0 +1,86 @@
+package io.honeybadger.reporter.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of storing a token count that has to be
+ * refilled, the bucket stores the time at which it will be full again
+ * (the generic cell rate algorithm), so taking a token is a single
+ * compare-and-set with no refill bookkeeping.
+ *
+ * @since 2.0.1
+ */
+public class TokenBucket {
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAtNanos;
+
+    /**
+     * @param tokensPerSecond rate at which tokens are added to the bucket
+     * @param capacity maximum number of tokens the bucket holds
+     */
+    public TokenBucket(final int tokensPerSecond, final int capacity) {
+        if (tokensPerSecond < 1) {
+            throw new IllegalArgumentException("Tokens per second must be greater than 0");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1L) / tokensPerSecond;
+        this.burstNanos = nanosPerToken * capacity;
+        this.fullAtNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Takes a token from the bucket if one is available.
+     *
+     * @return true if a token was taken, false if the bucket is empty
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    boolean tryAcquire(final long nowNanos) {
+        while (true) {
+            final long fullAt = fullAtNanos.get();
+            // An idle bucket is full, it doesn't accumulate more than its capacity
+            final long start = fullAt - nowNanos < 0 ? nowNanos : fullAt;
+            final long next = start + nanosPerToken;
+
+            if (next - nowNanos > burstNanos) {
+                return false;
+            }
+
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Puts back a token taken by {@link #tryAcquire()} that wasn't used.
+     */
+    void release() {
+        release(System.nanoTime());
+    }
+
+    void release(final long nowNanos) {
+        while (true) {
+            final long fullAt = fullAtNanos.get();
+
+            if (fullAt - nowNanos <= 0) {
+                return;
+            }
+
+            final long released = fullAt - nanosPerToken;
+            // The bucket can't hold more than its capacity
+            final long next = released - nowNanos < 0 ? nowNanos : released;
+
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return;
+            }
+        }
+    }
+}
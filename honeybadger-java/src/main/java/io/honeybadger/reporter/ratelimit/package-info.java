@@ -0,0 +1,5 @@
+/**
+ * Rate limiting of the notices sent to the Honeybadger API is contained in
+ * this package.
+ */
+package io.honeybadger.reporter.ratelimit;
@@ -1,5 +1,6 @@
 package io.honeybadger.reporter.servlet;
 
+import io.honeybadger.reporter.AsyncHoneybadgerReporter;
 import io.honeybadger.reporter.FeedbackForm;
 import io.honeybadger.reporter.NoticeReportResult;
 import io.honeybadger.reporter.NoticeReporter;
@@ -28,6 +29,12 @@ import static javax.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
 /**
  * Servlet filter that reports all unhandled servlet errors to Honeybadger.
  *
+ * <p>By default, the error page is rendered once the Honeybadger API has
+ * accepted the error, so that it can show the ID of the error. When
+ * <code>honeybadger.filter_reporting_async</code> is enabled, the ID is
+ * generated locally and the error page is rendered right away, while the
+ * notice is sent with that ID by background sender threads.</p>
+ *
  * @author <a href="https://github.com/dekobon">Elijah Zupancic</a>
  * @since 1.0.4
  */
@@ -39,8 +46,16 @@ public class HoneybadgerFilter implements Filter {
     @Override
     public void init(final FilterConfig filterConfig) throws ServletException {
         ConfigContext filterContext = new ServletFilterConfigContext(filterConfig);
-        this.config = new SystemSettingsConfigContext(filterContext);
-        this.reporter = new HoneybadgerReporter(config);
+        this.config = new SystemSettingsConfigContext(filterContext).freeze();
+
+        final HoneybadgerReporter honeybadgerReporter = new HoneybadgerReporter(config);
+
+        if (Boolean.TRUE.equals(config.isFilterReportingAsync())) {
+            this.reporter = new AsyncHoneybadgerReporter(honeybadgerReporter);
+        } else {
+            this.reporter = honeybadgerReporter;
+        }
+
         this.feedbackForm = new FeedbackForm(config);
     }
 
@@ -51,7 +66,7 @@ public class HoneybadgerFilter implements Filter {
         try {
             chain.doFilter(request, response);
         } catch (Throwable e) {
-            NoticeReportResult result = reporter.reportError(e, request);
+            UUID errorId = reportError(e, request);
 
             // Don't render the feedback form and just throw the error
             if (config.isFeedbackFormDisplayed() != null && !config.isFeedbackFormDisplayed()) {
@@ -65,7 +80,7 @@ public class HoneybadgerFilter implements Filter {
                 HttpServletRequest httpServletRequest = (HttpServletRequest)request;
 
                 if (acceptsOnlyJson(httpServletRequest)) {
-                    jsonError(result.getId(), response);
+                    jsonError(errorId, response);
                     return;
                 }
             }
@@ -79,14 +94,34 @@ public class HoneybadgerFilter implements Filter {
                 httpServletResponse.setStatus(SC_INTERNAL_SERVER_ERROR);
             }
 
-            Object errorId = result == null ? null : result.getId();
-
             feedbackForm.renderHtml(errorId, e.getMessage(),
                     response.getWriter(),
                     request.getLocale());
         }
     }
 
+    /**
+     * Reports an error to Honeybadger. An {@link AsyncHoneybadgerReporter}
+     * is passed an ID generated here, so that the error page doesn't wait
+     * for the notice to be sent.
+     *
+     * @param error error to report
+     * @param request request that caused the error
+     * @return ID of the error or null if it wasn't reported
+     */
+    protected UUID reportError(final Throwable error, final ServletRequest request) {
+        if (reporter instanceof AsyncHoneybadgerReporter) {
+            final UUID errorId = UUID.randomUUID();
+            final boolean queued = ((AsyncHoneybadgerReporter) reporter)
+                    .reportErrorAsync(error, request, null, Collections.emptySet(), errorId);
+
+            return queued ? errorId : null;
+        }
+
+        NoticeReportResult result = reporter.reportError(error, request);
+        return result == null ? null : result.getId();
+    }
+
     protected boolean acceptsOnlyJson(final HttpServletRequest request) {
         Enumeration<String> enumeration = request.getHeaders("Accept");
         if (enumeration == null) return false;
@@ -110,7 +145,12 @@ public class HoneybadgerFilter implements Filter {
 
     @Override
     public void destroy() {
-        // do nothing
+        // Stops the reporter's background work, so a redeployed webapp can be unloaded
+        if (reporter instanceof AsyncHoneybadgerReporter) {
+            ((AsyncHoneybadgerReporter) reporter).close();
+        } else if (reporter instanceof HoneybadgerReporter) {
+            ((HoneybadgerReporter) reporter).close();
+        }
     }
 
     NoticeReporter getReporter() {
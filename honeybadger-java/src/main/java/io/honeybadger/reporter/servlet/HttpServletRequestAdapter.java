@@ -0,0 +1,25 @@
+package io.honeybadger.reporter.servlet;
+
+import io.honeybadger.reporter.RequestAdapter;
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.dto.HttpServletRequestFactory;
+import io.honeybadger.reporter.dto.Request;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * {@link RequestAdapter} for servlet requests, which are also used by Spring.
+ *
+ * @since 2.0.1
+ */
+public class HttpServletRequestAdapter implements RequestAdapter {
+    @Override
+    public Class<?> getRequestType() {
+        return HttpServletRequest.class;
+    }
+
+    @Override
+    public Request adapt(final ConfigContext config, final Object request) {
+        return HttpServletRequestFactory.create(config, (HttpServletRequest) request);
+    }
+}
@@ -0,0 +1,532 @@
+package io.honeybadger.reporter.spool;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.honeybadger.util.HBStringUtils.isPresent;
+
+/**
+ * Write-ahead spool that keeps serialized notices that couldn't be delivered
+ * on disk, so that they survive network outages and JVM restarts. Notices
+ * are appended to memory-mapped segment files and replayed oldest-first by a
+ * background thread.
+ *
+ * <p>Changes are forced to disk in batches of {@link #FSYNC_BATCH_SIZE}
+ * appends and whenever the replayer runs, so a crash can lose at most the
+ * last few notices that were spooled.</p>
+ *
+ * <p>Only a single spool may use a directory, so spools are shared between
+ * reporters via {@link #forConfig(ConfigContext)}. Spooled notices carry no
+ * endpoint or API key, so only reporters with the same endpoint, API key and
+ * spool settings may share a directory.</p>
+ *
+ * @since 2.0.1
+ */
+public class NoticeSpool implements AutoCloseable {
+    /** Number of appends after which spooled notices are forced to disk. */
+    static final int FSYNC_BATCH_SIZE = 16;
+    /** Number of seconds between attempts to replay spooled notices. */
+    static final long REPLAY_INTERVAL_SECONDS = 30L;
+    static final String SEGMENT_PREFIX = "notices-";
+    static final String SEGMENT_SUFFIX = ".spool";
+
+    private static final ConcurrentMap<File, NoticeSpool> SHARED_SPOOLS =
+            new ConcurrentHashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final File directory;
+    private final int segmentSize;
+    private final long maxSize;
+    private final SpoolEvictionPolicy evictionPolicy;
+    private final Deque<SpoolSegment> segments = new ArrayDeque<>();
+    private final LongAdder droppedCount = new LongAdder();
+    private final AtomicBoolean replaying = new AtomicBoolean(false);
+    private final AtomicBoolean replayRequested = new AtomicBoolean(false);
+
+    private SpoolSegment activeSegment;
+    private long nextSequence = 0;
+    private long totalSize = 0;
+    private int unsyncedAppends = 0;
+    private ScheduledExecutorService replayer;
+    private volatile SpoolSender sender;
+    private final List<SpoolSender> senders = new ArrayList<>();
+    private volatile String owner;
+
+    /**
+     * Creates a new spool, picking up any segment files left in the directory
+     * by a previous JVM.
+     *
+     * @param directory directory to store segment files in
+     * @param segmentSize size in bytes of each segment file
+     * @param maxSize maximum number of bytes used by all segment files
+     * @param evictionPolicy what to do when the spool is full
+     * @throws IOException thrown when the directory or existing segments can't be read
+     */
+    public NoticeSpool(final File directory, final int segmentSize, final long maxSize,
+                       final SpoolEvictionPolicy evictionPolicy) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Spool directory must not be null");
+        }
+        if (segmentSize <= SpoolSegment.HEADER_SIZE + SpoolSegment.RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.spool_segment_size " +
+                    "must be large enough to hold a notice");
+        }
+        if (maxSize < segmentSize) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.spool_max_size " +
+                    "must not be less than honeybadger.spool_segment_size");
+        }
+        if (evictionPolicy == null) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.spool_eviction_policy " +
+                    "must be one of: drop_oldest, drop_newest");
+        }
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create spool directory: " + directory);
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSize = maxSize;
+        this.evictionPolicy = evictionPolicy;
+
+        openExistingSegments();
+    }
+
+    /**
+     * Finds the spool shared by all reporters configured with the same spool
+     * directory, creating it if needed.
+     *
+     * @param config configuration to read spool settings from
+     * @return shared spool or null if spooling isn't configured or the spool
+     *         couldn't be opened
+     * @throws IllegalArgumentException thrown when the directory is already
+     *         used by a reporter with a different endpoint, API key or spool settings
+     */
+    public static NoticeSpool forConfig(final ConfigContext config) {
+        if (!isPresent(config.getSpoolDirectory())) {
+            return null;
+        }
+
+        final File directory = new File(config.getSpoolDirectory()).getAbsoluteFile();
+        final String owner = ownerOf(config);
+        final NoticeSpool spool;
+
+        try {
+            spool = SHARED_SPOOLS.computeIfAbsent(directory, dir -> {
+                try {
+                    final NoticeSpool created = new NoticeSpool(dir, config.getSpoolSegmentSize(),
+                            config.getSpoolMaxSize(), config.getSpoolEvictionPolicy());
+                    created.owner = owner;
+                    return created;
+                } catch (IOException e) {
+                    throw new SpoolException(e);
+                }
+            });
+        } catch (SpoolException e) {
+            LoggerFactory.getLogger(NoticeSpool.class)
+                    .error("Unable to open Honeybadger spool directory: {}", directory, e.getCause());
+            return null;
+        }
+
+        if (!owner.equals(spool.owner)) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.spool_directory " +
+                    "is already used by a reporter with a different endpoint, API key or " +
+                    "spool settings: " + directory);
+        }
+
+        return spool;
+    }
+
+    /**
+     * Identifies the reporters that may share a spool: those that send to the
+     * same project and would have created the same spool.
+     */
+    private static String ownerOf(final ConfigContext config) {
+        return String.format("%s|%s|%s|%s|%s", config.getHoneybadgerUrl(), config.getApiKey(),
+                config.getSpoolSegmentSize(), config.getSpoolMaxSize(),
+                config.getSpoolEvictionPolicy());
+    }
+
+    /**
+     * Stores a serialized notice on disk.
+     *
+     * @param notice serialized notice
+     * @return true if the notice was stored, false if it was dropped
+     */
+    public boolean append(final byte[] notice) {
+        return append(notice, 0, notice.length);
+    }
+
+    /**
+     * Stores a serialized notice held in part of an array on disk.
+     *
+     * @param notice array holding the serialized notice
+     * @param offset offset of the notice in the array
+     * @param length length of the notice in bytes
+     * @return true if the notice was stored, false if it was dropped
+     */
+    public synchronized boolean append(final byte[] notice, final int offset, final int length) {
+        if ((long)length + SpoolSegment.HEADER_SIZE + SpoolSegment.RECORD_HEADER_SIZE > segmentSize) {
+            logger.warn("Notice of {} bytes is larger than the spool segment size. Dropping notice.",
+                    length);
+            droppedCount.increment();
+            return false;
+        }
+
+        if (activeSegment == null || !activeSegment.append(notice, offset, length)) {
+            if (!makeRoomForSegment()) {
+                logger.debug("Honeybadger spool is full. Dropping notice.");
+                droppedCount.increment();
+                return false;
+            }
+
+            try {
+                activeSegment = createSegment();
+            } catch (IOException e) {
+                logger.error("Unable to create Honeybadger spool segment in: {}", directory, e);
+                droppedCount.increment();
+                return false;
+            }
+
+            activeSegment.append(notice, offset, length);
+        }
+
+        if (++unsyncedAppends >= FSYNC_BATCH_SIZE) {
+            flush();
+        }
+
+        return true;
+    }
+
+    /**
+     * Forces all spooled notices to disk.
+     */
+    public synchronized void flush() {
+        if (unsyncedAppends == 0) return;
+
+        for (SpoolSegment segment : segments) {
+            segment.force();
+        }
+
+        unsyncedAppends = 0;
+    }
+
+    /**
+     * Starts replaying spooled notices in the background: immediately, every
+     * {@link #REPLAY_INTERVAL_SECONDS} seconds and whenever
+     * {@link #requestReplay()} is called. Every reporter sharing the spool
+     * registers its sender, but only the oldest registered sender is used.
+     *
+     * @param notices sender used to deliver spooled notices
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public synchronized void startReplaying(final SpoolSender notices) {
+        senders.add(notices);
+        this.sender = senders.get(0);
+
+        if (replayer != null) return;
+
+        this.replayer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable,
+                    "honeybadger-spool-replayer-" + directory.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        replayer.scheduleWithFixedDelay(this::replayQuietly, 0L,
+                REPLAY_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Unregisters a sender registered with {@link #startReplaying(SpoolSender)}.
+     * The replayer is stopped once no sender is left, so that it doesn't keep
+     * a closed reporter alive.
+     *
+     * @param notices sender to unregister
+     */
+    public synchronized void stopReplaying(final SpoolSender notices) {
+        senders.remove(notices);
+
+        if (!senders.isEmpty()) {
+            this.sender = senders.get(0);
+            return;
+        }
+
+        this.sender = null;
+
+        if (replayer != null) {
+            replayer.shutdown();
+            replayer = null;
+        }
+    }
+
+    /**
+     * Asks the replayer to drain the spool now, for example because a notice
+     * was just delivered and connectivity has returned. A request made while
+     * a replay is running is served once that replay is done, so that notices
+     * spooled during it aren't left until the next scheduled replay.
+     */
+    public void requestReplay() {
+        final ScheduledExecutorService executor;
+
+        synchronized (this) {
+            executor = replayer;
+        }
+
+        // At most one request is queued behind the replay that is running
+        if (executor == null || getPendingCount() == 0 || !replayRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                replayRequested.set(false);
+                replayQuietly();
+            });
+        } catch (RejectedExecutionException e) {
+            replayRequested.set(false);
+            logger.debug("Honeybadger spool replayer has been shut down");
+        }
+    }
+
+    /**
+     * Delivers spooled notices oldest-first until the spool is empty or the
+     * sender fails. Notices are read while holding the spool's lock, but are
+     * sent without it, so that spooling new notices isn't blocked by the
+     * network.
+     *
+     * @param notices sender used to deliver spooled notices
+     * @return number of notices removed from the spool
+     */
+    int replay(final SpoolSender notices) {
+        if (!replaying.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        int delivered = 0;
+
+        try {
+            while (true) {
+                final SpoolSegment segment;
+                final byte[] notice;
+
+                synchronized (this) {
+                    segment = segments.peekFirst();
+
+                    if (segment == null) break;
+
+                    notice = segment.peek();
+
+                    if (notice == null) {
+                        if (segment == activeSegment) break;
+
+                        removeSegment(segment);
+                        continue;
+                    }
+                }
+
+                if (!notices.deliver(notice)) break;
+
+                synchronized (this) {
+                    segment.markDelivered();
+                    unsyncedAppends++;
+
+                    if (segment.getPendingCount() == 0 && segment != activeSegment) {
+                        removeSegment(segment);
+                    }
+                }
+
+                delivered++;
+            }
+        } finally {
+            replaying.set(false);
+            flush();
+        }
+
+        if (delivered > 0) {
+            logger.info("Delivered {} spooled notices to Honeybadger", delivered);
+        }
+
+        return delivered;
+    }
+
+    /**
+     * @return number of notices waiting to be replayed
+     */
+    public synchronized int getPendingCount() {
+        int count = 0;
+
+        for (SpoolSegment segment : segments) {
+            count += segment.getPendingCount();
+        }
+
+        return count;
+    }
+
+    /**
+     * @return number of notices dropped because the spool was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * @return directory segment files are stored in
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Stops the replayer and forces spooled notices to disk. Segment files
+     * are kept so that they can be replayed by the next JVM.
+     */
+    @Override
+    public synchronized void close() {
+        if (replayer != null) {
+            replayer.shutdownNow();
+        }
+
+        flush();
+        SHARED_SPOOLS.remove(directory, this);
+    }
+
+    private void replayQuietly() {
+        if (sender == null) return;
+
+        try {
+            // The sender is read for every notice, so that a stopped reporter isn't used
+            replay(notice -> {
+                final SpoolSender current = sender;
+                return current != null && current.deliver(notice);
+            });
+        } catch (RuntimeException e) {
+            logger.error("An error occurred when replaying spooled notices", e);
+        }
+    }
+
+    private void openExistingSegments() throws IOException {
+        final File[] files = directory.listFiles((dir, name) ->
+                name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+
+        if (files == null) {
+            throw new IOException("Unable to list spool directory: " + directory);
+        }
+
+        // Segment names are zero padded, so lexical order is creation order
+        Arrays.sort(files);
+
+        for (File file : files) {
+            final long sequence = parseSequence(file.getName());
+
+            if (sequence < 0) continue;
+
+            final SpoolSegment segment = SpoolSegment.open(file, sequence);
+
+            if (segment == null) {
+                logger.warn("Ignoring invalid Honeybadger spool file: {}", file);
+                continue;
+            }
+
+            nextSequence = Math.max(nextSequence, sequence + 1);
+
+            if (segment.getPendingCount() == 0) {
+                segment.delete();
+                continue;
+            }
+
+            segments.addLast(segment);
+            totalSize += segment.getCapacity();
+        }
+
+        if (!segments.isEmpty()) {
+            logger.info("Found {} spooled Honeybadger notices in: {}",
+                    getPendingCount(), directory);
+        }
+    }
+
+    /**
+     * Evicts segments according to the eviction policy until there is room
+     * for another segment within the disk budget.
+     *
+     * @return true if there is room for another segment
+     */
+    private boolean makeRoomForSegment() {
+        while (totalSize + segmentSize > maxSize) {
+            if (evictionPolicy == SpoolEvictionPolicy.DROP_NEWEST || segments.isEmpty()) {
+                return false;
+            }
+
+            final SpoolSegment oldest = segments.peekFirst();
+            droppedCount.add(oldest.getPendingCount());
+            logger.warn("Honeybadger spool is full. Dropping {} spooled notices.",
+                    oldest.getPendingCount());
+            removeSegment(oldest);
+        }
+
+        return true;
+    }
+
+    private SpoolSegment createSegment() throws IOException {
+        final long sequence = nextSequence++;
+        final File file = new File(directory,
+                String.format("%s%019d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        final SpoolSegment segment = SpoolSegment.create(file, sequence, segmentSize);
+
+        segments.addLast(segment);
+        totalSize += segment.getCapacity();
+
+        return segment;
+    }
+
+    private void removeSegment(final SpoolSegment segment) {
+        segments.remove(segment);
+        totalSize -= segment.getCapacity();
+        segment.delete();
+
+        if (segment == activeSegment) {
+            activeSegment = null;
+        }
+    }
+
+    private static long parseSequence(final String name) {
+        final String sequence = name.substring(SEGMENT_PREFIX.length(),
+                name.length() - SEGMENT_SUFFIX.length());
+
+        try {
+            return Long.parseLong(sequence);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Unchecked wrapper used to get an {@link IOException} out of
+     * {@link ConcurrentMap#computeIfAbsent}.
+     */
+    private static final class SpoolException extends RuntimeException {
+        private static final long serialVersionUID = -2094370393123485781L;
+
+        SpoolException(final IOException cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.honeybadger.reporter.spool;
+
+/**
+ * Enum representing what a {@link NoticeSpool} does when storing another
+ * notice would exceed its disk budget.
+ *
+ * @since 2.0.1
+ */
+public enum SpoolEvictionPolicy {
+    /** Delete the oldest segment of spooled notices to make room. **/
+    DROP_OLDEST,
+    /** Keep the notices already spooled and discard the new notice. **/
+    DROP_NEWEST
+}
@@ -0,0 +1,266 @@
+package io.honeybadger.reporter.spool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * A single append-only, memory-mapped spool file. The file is mapped at its
+ * full size when it is created, so appending a record is a memory copy.
+ *
+ * <p>Each record is framed as:</p>
+ * <pre>
+ * [int payload length][int CRC32 of payload][byte state][payload]
+ * </pre>
+ *
+ * <p>The length is written last, so a zero length marks the end of the
+ * records. A record whose checksum doesn't match is treated as the torn tail
+ * of a write interrupted by a crash and everything from that point on is
+ * ignored.</p>
+ *
+ * <p>This class isn't thread-safe. All access is guarded by the owning
+ * {@link NoticeSpool}.</p>
+ */
+final class SpoolSegment {
+    static final int MAGIC = 0x48425350; // "HBSP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 9;
+    static final byte STATE_PENDING = 0;
+    static final byte STATE_DELIVERED = 1;
+
+    private static final Logger logger = LoggerFactory.getLogger(SpoolSegment.class);
+
+    private final File file;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private int readPosition;
+    private int pendingCount;
+    private boolean deleted = false;
+
+    private SpoolSegment(final File file, final long sequence, final MappedByteBuffer buffer) {
+        this.file = file;
+        this.sequence = sequence;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates and maps a new empty segment file.
+     *
+     * @param file file to create
+     * @param sequence order of the segment within the spool
+     * @param size size of the file in bytes
+     * @return new segment
+     * @throws IOException thrown when the file can't be created or mapped
+     */
+    static SpoolSegment create(final File file, final long sequence, final int size) throws IOException {
+        final MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+
+        final SpoolSegment segment = new SpoolSegment(file, sequence, buffer);
+        segment.writePosition = HEADER_SIZE;
+        segment.readPosition = HEADER_SIZE;
+
+        return segment;
+    }
+
+    /**
+     * Maps an existing segment file and scans it for pending records.
+     *
+     * @param file file to open
+     * @param sequence order of the segment within the spool
+     * @return segment or null if the file isn't a valid segment
+     * @throws IOException thrown when the file can't be mapped
+     */
+    static SpoolSegment open(final File file, final long sequence) throws IOException {
+        final MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                return null;
+            }
+
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            return null;
+        }
+
+        final SpoolSegment segment = new SpoolSegment(file, sequence, buffer);
+        segment.scan();
+
+        return segment;
+    }
+
+    private void scan() {
+        final int capacity = buffer.capacity();
+        int position = HEADER_SIZE;
+        int firstPending = -1;
+
+        while (position + RECORD_HEADER_SIZE <= capacity) {
+            final int length = buffer.getInt(position);
+
+            if (length <= 0 || length > capacity - position - RECORD_HEADER_SIZE) {
+                break;
+            }
+
+            final byte[] payload = read(position, length);
+
+            if (checksum(payload, 0, length) != buffer.getInt(position + 4)) {
+                logger.warn("Ignoring corrupt record at offset {} of spool file: {}",
+                        position, file);
+                break;
+            }
+
+            if (buffer.get(position + 8) == STATE_PENDING) {
+                pendingCount++;
+
+                if (firstPending < 0) {
+                    firstPending = position;
+                }
+            }
+
+            position += RECORD_HEADER_SIZE + length;
+        }
+
+        writePosition = position;
+        readPosition = firstPending < 0 ? position : firstPending;
+    }
+
+    /**
+     * Appends a record to the segment.
+     *
+     * @param payload array holding the bytes to store
+     * @param offset offset of the first byte to store
+     * @param length number of bytes to store
+     * @return true if the record was stored, false if there isn't enough room
+     */
+    boolean append(final byte[] payload, final int offset, final int length) {
+        if (!hasRoomFor(length)) {
+            return false;
+        }
+
+        final int position = writePosition;
+
+        final ByteBuffer target = buffer.duplicate();
+        target.position(position + RECORD_HEADER_SIZE);
+        target.put(payload, offset, length);
+
+        buffer.putInt(position + 4, checksum(payload, offset, length));
+        buffer.put(position + 8, STATE_PENDING);
+        buffer.putInt(position, length);
+
+        writePosition += RECORD_HEADER_SIZE + length;
+        pendingCount++;
+
+        return true;
+    }
+
+    boolean hasRoomFor(final int payloadLength) {
+        return !deleted &&
+                (long)buffer.capacity() - writePosition >= (long)RECORD_HEADER_SIZE + payloadLength;
+    }
+
+    /**
+     * @return the payload of the oldest pending record or null if there isn't one
+     */
+    byte[] peek() {
+        if (deleted) return null;
+
+        while (readPosition < writePosition) {
+            final int length = buffer.getInt(readPosition);
+
+            if (buffer.get(readPosition + 8) == STATE_PENDING) {
+                return read(readPosition, length);
+            }
+
+            readPosition += RECORD_HEADER_SIZE + length;
+        }
+
+        return null;
+    }
+
+    /**
+     * Marks the record last returned by {@link #peek()} as delivered.
+     */
+    void markDelivered() {
+        if (deleted || readPosition >= writePosition) return;
+
+        final int length = buffer.getInt(readPosition);
+        buffer.put(readPosition + 8, STATE_DELIVERED);
+        readPosition += RECORD_HEADER_SIZE + length;
+        pendingCount--;
+    }
+
+    /**
+     * Flushes changes to the storage device.
+     */
+    void force() {
+        if (!deleted) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Deletes the segment file. The segment can't be used afterwards.
+     */
+    void delete() {
+        deleted = true;
+
+        if (!file.delete() && file.exists()) {
+            logger.warn("Unable to delete spool file: {}", file);
+        }
+    }
+
+    boolean isDeleted() {
+        return deleted;
+    }
+
+    int getPendingCount() {
+        return pendingCount;
+    }
+
+    int getCapacity() {
+        return buffer.capacity();
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    private byte[] read(final int position, final int length) {
+        final byte[] payload = new byte[length];
+        final ByteBuffer source = buffer.duplicate();
+        source.position(position + RECORD_HEADER_SIZE);
+        source.get(payload);
+
+        return payload;
+    }
+
+    private static int checksum(final byte[] payload, final int offset, final int length) {
+        final CRC32 crc = new CRC32();
+        crc.update(payload, offset, length);
+        return (int)crc.getValue();
+    }
+}
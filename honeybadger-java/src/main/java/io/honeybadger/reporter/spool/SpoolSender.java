@@ -0,0 +1,19 @@
+package io.honeybadger.reporter.spool;
+
+/**
+ * Callback used by {@link NoticeSpool} to deliver spooled notices.
+ *
+ * @since 2.0.1
+ */
+@FunctionalInterface
+public interface SpoolSender {
+    /**
+     * Delivers a spooled notice.
+     *
+     * @param notice serialized notice
+     * @return true if the notice can be removed from the spool (it was
+     *         delivered or it will never be accepted), false to keep it and
+     *         stop replaying until the next attempt
+     */
+    boolean deliver(byte[] notice);
+}
@@ -0,0 +1,5 @@
+/**
+ * Durable on-disk storage for notices that couldn't be delivered to the
+ * Honeybadger API is contained in this package.
+ */
+package io.honeybadger.reporter.spool;
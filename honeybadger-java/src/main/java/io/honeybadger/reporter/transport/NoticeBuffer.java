@@ -0,0 +1,97 @@
+package io.honeybadger.reporter.transport;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Growable byte buffer that a notice is serialized into as UTF-8 JSON. The
+ * serialized notice is sent straight from the buffer's backing array, so the
+ * payload is never copied into a String or a second byte array, and the
+ * entity can be sent again when a delivery is retried.
+ *
+ * <p>Buffers are pooled: a buffer is taken with {@link #acquire()} and must
+ * be handed back with {@link #release()} once the notice is no longer needed,
+ * which is after the last attempt to deliver it. Buffers that grew past
+ * {@link #MAX_POOLED_CAPACITY} are left to the garbage collector so that a
+ * single huge notice doesn't pin its memory forever.</p>
+ *
+ * <p>This class is not thread safe. A buffer must only be used by one
+ * delivery at a time.</p>
+ *
+ * @since 2.0.1
+ */
+public final class NoticeBuffer extends ByteArrayOutputStream {
+    /** Capacity of a newly created buffer in bytes. */
+    static final int INITIAL_CAPACITY = 16 * 1024;
+
+    /** Largest capacity in bytes of a buffer that is returned to the pool. */
+    static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+
+    /** Maximum number of idle buffers kept in the pool. */
+    static final int POOL_SIZE = 16;
+
+    private static final BlockingQueue<NoticeBuffer> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private NoticeBuffer() {
+        super(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @return an empty buffer from the pool or a new one if the pool is empty
+     */
+    public static NoticeBuffer acquire() {
+        final NoticeBuffer pooled = POOL.poll();
+
+        return pooled != null ? pooled : new NoticeBuffer();
+    }
+
+    /**
+     * Empties the buffer and returns it to the pool. The buffer and any entity
+     * created from it must not be used afterwards.
+     */
+    public void release() {
+        if (buf.length > MAX_POOLED_CAPACITY) {
+            return;
+        }
+
+        reset();
+        POOL.offer(this);
+    }
+
+    /**
+     * @return repeatable JSON entity backed by this buffer's contents without copying them
+     */
+    public HttpEntity toEntity() {
+        return new ByteArrayEntity(buf, 0, count, ContentType.APPLICATION_JSON);
+    }
+
+    /**
+     * @param contentEncoding encoding of this buffer's contents, such as gzip
+     * @return repeatable JSON entity backed by this buffer's contents without copying them
+     */
+    public HttpEntity toEntity(final String contentEncoding) {
+        final ByteArrayEntity entity = new ByteArrayEntity(buf, 0, count, ContentType.APPLICATION_JSON);
+        entity.setContentEncoding(contentEncoding);
+
+        return entity;
+    }
+
+    /**
+     * @return the backing array, of which the first {@link #size()} bytes are valid
+     */
+    public byte[] array() {
+        return buf;
+    }
+
+    /**
+     * @return number of idle buffers in the pool
+     */
+    static int pooledCount() {
+        return POOL.size();
+    }
+}
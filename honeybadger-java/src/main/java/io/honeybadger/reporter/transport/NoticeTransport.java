@@ -0,0 +1,347 @@
+package io.honeybadger.reporter.transport;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.FrozenConfigContext;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static io.honeybadger.util.HBStringUtils.isPresent;
+
+/**
+ * HTTP transport that posts notices to the Honeybadger API over a pool of
+ * keep-alive connections. The notices endpoint, the proxy settings and the
+ * connect and socket timeouts are resolved once when the transport is created.
+ *
+ * <p>Transports are shared: every reporter created with the same API
+ * endpoint, API key, proxy and timeout settings uses the same instance and
+ * therefore the same connection pool. Shared transports are reference
+ * counted. Each call to {@link #forConfig(ConfigContext)} must be matched by
+ * a call to {@link #release()}, and the connection pool is closed once the
+ * last reference is released and no notice is being sent.</p>
+ *
+ * <p>When the API throttles us, the pause it asks for is recorded via
+ * {@link #pauseFor(long)} for the API endpoint and key, so that it applies to
+ * every reporter sending to them and outlives the transport.</p>
+ *
+ * @since 2.0.1
+ */
+public class NoticeTransport {
+    /** Path of the notices endpoint relative to the Honeybadger URL. */
+    public static final String NOTICES_PATH = "v1/notices";
+    /** Maximum number of pooled connections to the Honeybadger API. */
+    static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+    /** Maximum number of pooled connections across all routes (API and proxy). */
+    static final int MAX_CONNECTIONS_TOTAL = 40;
+    /** Number of seconds an idle pooled connection is kept alive. */
+    static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 30L;
+    /** Content encoding of compressed notices. */
+    static final String GZIP_ENCODING = "gzip";
+
+    private static final ConcurrentMap<String, NoticeTransport> SHARED_TRANSPORTS =
+            new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, AtomicLong> PAUSES = new ConcurrentHashMap<>();
+
+    private final URI noticesUri;
+    private final String apiKey;
+    private final HttpHost proxy;
+    private final int compressionLevel;
+    private final int compressionThreshold;
+    private final CloseableHttpClient httpClient;
+    private final AtomicLong pausedUntilMillis;
+    private final String sharedKey;
+    /** References held by owners and notices being sent. Guarded by this. */
+    private int references = 1;
+    /** Guarded by this. */
+    private boolean closed;
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /**
+     * Creates a new transport with its own connection pool. Prefer
+     * {@link #forConfig(ConfigContext)} so that connections are shared.
+     * The caller holds the only reference to the transport.
+     *
+     * @param config configuration to read endpoint, API key, proxy and timeout settings from
+     */
+    public NoticeTransport(final ConfigContext config) {
+        this(config, null);
+    }
+
+    private NoticeTransport(final ConfigContext config, final String sharedKey) {
+        this.noticesUri = noticesUri(config);
+        this.apiKey = config.getApiKey();
+        this.proxy = proxy(config);
+        this.sharedKey = sharedKey;
+        this.pausedUntilMillis = PAUSES.computeIfAbsent(noticesUri + "|" + apiKey,
+                k -> new AtomicLong());
+
+        if (config.getCompressionLevel() == null || config.getCompressionLevel() < 0
+                || config.getCompressionLevel() > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.compression_level " +
+                    "must be an integer between 0 and 9");
+        }
+        if (config.getCompressionThreshold() == null || config.getCompressionThreshold() < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.compression_threshold_bytes " +
+                    "must be an integer greater than or equal to 0");
+        }
+
+        this.compressionLevel = config.getCompressionLevel();
+        this.compressionThreshold = config.getCompressionThreshold();
+
+        final PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager();
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        connectionManager.setMaxTotal(MAX_CONNECTIONS_TOTAL);
+
+        // A lease from the pool waits at most as long as a new connection
+        final RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(config.getConnectTimeout())
+                .setConnectionRequestTimeout(config.getConnectTimeout())
+                .setSocketTimeout(config.getSocketTimeout())
+                .build();
+
+        final HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .disableCookieManagement();
+
+        if (proxy != null) {
+            builder.setProxy(proxy);
+        }
+
+        this.httpClient = builder.build();
+    }
+
+    /**
+     * Acquires a reference to the transport shared by all reporters that have
+     * the same API endpoint, API key, proxy, timeout and compression settings,
+     * creating it if needed. The reference must be given back with
+     * {@link #release()}.
+     *
+     * @param config configuration to read endpoint, API key and proxy settings from
+     * @return shared transport instance
+     */
+    public static NoticeTransport forConfig(final ConfigContext config) {
+        final String key = String.format("%s|%s|%s|%s|%s|%s|%s|%s", config.getHoneybadgerUrl(),
+                config.getApiKey(), config.getHttpProxyHost(), config.getHttpProxyPort(),
+                config.getConnectTimeout(), config.getSocketTimeout(),
+                config.getCompressionLevel(), config.getCompressionThreshold());
+
+        // A transport that is being closed is replaced rather than revived
+        return SHARED_TRANSPORTS.compute(key, (k, shared) ->
+                shared != null && shared.retain() ? shared : new NoticeTransport(config, k));
+    }
+
+    /**
+     * Gives back a reference acquired with {@link #forConfig(ConfigContext)}
+     * or held since the transport was created. The connection pool is closed
+     * once no references are left.
+     */
+    public void release() {
+        synchronized (this) {
+            if (closed || --references > 0) {
+                return;
+            }
+
+            closed = true;
+        }
+
+        if (sharedKey != null) {
+            SHARED_TRANSPORTS.remove(sharedKey, this);
+        }
+
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            logger.debug("Unable to close Honeybadger connection pool", e);
+        }
+    }
+
+    private synchronized boolean retain() {
+        if (closed) {
+            return false;
+        }
+
+        references++;
+        return true;
+    }
+
+    /**
+     * @return true once the last reference has been released
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Posts a serialized notice to the Honeybadger API. When compression is
+     * enabled, notices of at least the compression threshold are sent gzipped.
+     * The response body is read fully so that the connection can be returned
+     * to the pool before this method returns.
+     *
+     * @param notice JSON payload of the notice
+     * @return the API's response with a buffered entity
+     * @throws IOException thrown when a network exception was encountered or
+     *                     the transport has been closed
+     */
+    public HttpResponse send(final HttpEntity notice) throws IOException {
+        // Keeps the connection pool open until the request completes
+        if (!retain()) {
+            throw new IOException("Honeybadger transport has been closed");
+        }
+
+        try {
+            return post(notice);
+        } finally {
+            release();
+        }
+    }
+
+    private HttpResponse post(final HttpEntity notice) throws IOException {
+        final HttpPost post = new HttpPost(noticesUri);
+        post.setProtocolVersion(HttpVersion.HTTP_1_1);
+        post.addHeader("X-API-Key", apiKey);
+        post.addHeader("Accept", "application/json");
+
+        if (!shouldCompress(notice)) {
+            post.setEntity(notice);
+            return execute(post);
+        }
+
+        final NoticeBuffer compressed = NoticeBuffer.acquire();
+
+        try {
+            compress(notice, compressed);
+            post.setEntity(compressed.toEntity(GZIP_ENCODING));
+            return execute(post);
+        } finally {
+            compressed.release();
+        }
+    }
+
+    boolean shouldCompress(final HttpEntity notice) {
+        // Streamed entities of unknown length are never compressed
+        return compressionLevel > 0 && notice.getContentLength() >= 0
+                && notice.getContentLength() >= compressionThreshold;
+    }
+
+    void compress(final HttpEntity notice, final NoticeBuffer target) throws IOException {
+        try (GZIPOutputStream gzip = new LeveledGZIPOutputStream(target, compressionLevel)) {
+            notice.writeTo(gzip);
+        }
+    }
+
+    private HttpResponse execute(final HttpPost post) throws IOException {
+        try (CloseableHttpResponse response = httpClient.execute(post)) {
+            final HttpEntity entity = response.getEntity();
+
+            if (entity != null) {
+                response.setEntity(new ByteArrayEntity(EntityUtils.toByteArray(entity),
+                        ContentType.get(entity)));
+            }
+
+            return response;
+        }
+    }
+
+    /**
+     * {@link GZIPOutputStream} with a configurable compression level.
+     */
+    private static final class LeveledGZIPOutputStream extends GZIPOutputStream {
+        LeveledGZIPOutputStream(final OutputStream out, final int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+
+    /**
+     * Stops notices from being sent for a period of time. Overlapping pauses
+     * are merged, so the pause only ever gets longer.
+     *
+     * @param millis length of the pause in milliseconds
+     */
+    public void pauseFor(final long millis) {
+        final long until = System.currentTimeMillis() + millis;
+        pausedUntilMillis.accumulateAndGet(until, Math::max);
+    }
+
+    /**
+     * @return milliseconds until notices may be sent again or 0 if not paused
+     */
+    public long getPauseRemainingMillis() {
+        return Math.max(0L, pausedUntilMillis.get() - System.currentTimeMillis());
+    }
+
+    /**
+     * @return the notices endpoint of the Honeybadger API
+     */
+    public URI getNoticesUri() {
+        return noticesUri;
+    }
+
+    /**
+     * @return proxy that requests are sent through or null if not proxied
+     */
+    public HttpHost getProxy() {
+        return proxy;
+    }
+
+    static URI noticesUri(final ConfigContext config) {
+        if (config instanceof FrozenConfigContext) {
+            return ((FrozenConfigContext) config).getNoticesUri();
+        }
+
+        return URI.create(String.format("%s/%s", config.getHoneybadgerUrl(), NOTICES_PATH));
+    }
+
+    /**
+     * Resolves the proxy from the configuration. For backwards compatibility,
+     * we fall back to the standard Java proxy system properties when the
+     * configuration doesn't specify a proxy.
+     *
+     * @param config configuration to read proxy settings from
+     * @return proxy host or null if there is no proxy
+     */
+    static HttpHost proxy(final ConfigContext config) {
+        final String host;
+        final Integer port;
+
+        if (isPresent(config.getHttpProxyHost())) {
+            host = config.getHttpProxyHost();
+            port = config.getHttpProxyPort();
+        } else if (isPresent(System.getProperty("http.proxyHost"))) {
+            host = System.getProperty("http.proxyHost");
+            port = isPresent(System.getProperty("http.proxyPort")) ?
+                    Integer.valueOf(System.getProperty("http.proxyPort")) : null;
+        } else {
+            return null;
+        }
+
+        // A port of -1 means that the default port for the scheme is used
+        return new HttpHost(host, port == null ? -1 : port);
+    }
+}
@@ -0,0 +1,18 @@
+package io.honeybadger.reporter.transport;
+
+/**
+ * Enum representing how a response from the Honeybadger API affects the
+ * delivery of a notice.
+ *
+ * @since 2.0.1
+ */
+public enum ResponseClassification {
+    /** The notice was accepted. **/
+    SUCCESS,
+    /** The notice wasn't accepted, but may be if it is sent again. **/
+    RETRYABLE,
+    /** The notice will never be accepted, so it must not be sent again. **/
+    PERMANENT,
+    /** The API asked us to slow down, so nothing is sent until the pause expires. **/
+    THROTTLED
+}
@@ -0,0 +1,93 @@
+package io.honeybadger.reporter.transport;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.utils.DateUtils;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts responses from the Honeybadger API into {@link ResponseClassification}s
+ * and works out how long the API asked us to pause for.
+ *
+ * @since 2.0.1
+ */
+public final class ResponseClassifier {
+    /** HTTP status code for "Too Many Requests" (RFC 6585), which isn't in {@link HttpStatus}. */
+    public static final int SC_TOO_MANY_REQUESTS = 429;
+    /** Pause used when the API throttles us without saying for how long. */
+    static final long DEFAULT_PAUSE_MILLIS = TimeUnit.SECONDS.toMillis(60L);
+    /** Longest pause honored, so a bad header can't silence error reporting for days. */
+    static final long MAXIMUM_PAUSE_MILLIS = TimeUnit.HOURS.toMillis(1L);
+
+    private ResponseClassifier() { }
+
+    /**
+     * @param response response from the Honeybadger API
+     * @return classification of the response
+     */
+    public static ResponseClassification classify(final HttpResponse response) {
+        final int status = response.getStatusLine().getStatusCode();
+
+        if (status == HttpStatus.SC_SERVICE_UNAVAILABLE
+                && response.getFirstHeader(HttpHeaders.RETRY_AFTER) != null) {
+            return ResponseClassification.THROTTLED;
+        }
+
+        return classify(status);
+    }
+
+    /**
+     * @param status HTTP status code
+     * @return classification of the status code
+     */
+    public static ResponseClassification classify(final int status) {
+        if (status >= 200 && status < 300) {
+            return ResponseClassification.SUCCESS;
+        }
+        if (status == SC_TOO_MANY_REQUESTS) {
+            return ResponseClassification.THROTTLED;
+        }
+        if (status == HttpStatus.SC_REQUEST_TIMEOUT) {
+            return ResponseClassification.RETRYABLE;
+        }
+        // Redirects aren't followed and client errors such as an invalid API
+        // key or a rejected payload won't go away by sending the notice again
+        if (status >= 300 && status < 500) {
+            return ResponseClassification.PERMANENT;
+        }
+
+        return ResponseClassification.RETRYABLE;
+    }
+
+    /**
+     * Reads the pause requested by the Retry-After header, which is either a
+     * number of seconds or an HTTP date.
+     *
+     * @param response throttled response from the Honeybadger API
+     * @param nowMillis current time in milliseconds since the epoch
+     * @return pause in milliseconds
+     */
+    public static long pauseMillis(final HttpResponse response, final long nowMillis) {
+        final Header header = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+
+        if (header == null || header.getValue() == null) {
+            return DEFAULT_PAUSE_MILLIS;
+        }
+
+        final String value = header.getValue().trim();
+        long pause;
+
+        try {
+            pause = TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            final Date date = DateUtils.parseDate(value);
+            pause = date == null ? DEFAULT_PAUSE_MILLIS : date.getTime() - nowMillis;
+        }
+
+        return Math.max(0L, Math.min(pause, MAXIMUM_PAUSE_MILLIS));
+    }
+}
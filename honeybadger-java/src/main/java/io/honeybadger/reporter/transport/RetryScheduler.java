@@ -0,0 +1,200 @@
+package io.honeybadger.reporter.transport;
+
+import io.honeybadger.reporter.config.ConfigContext;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Schedules delivery retries using exponential backoff with full jitter:
+ * the delay before retry <em>n</em> is a random value between zero and
+ * <code>min(maximumDelay, initialDelay * 2^n)</code>. Randomizing the whole
+ * delay spreads out the retries of many clients that failed at the same
+ * time, so that a recovering API isn't hit by synchronized waves of retries.
+ *
+ * <p>Retries run on a small pool of daemon threads shared by all reporters,
+ * so nothing sleeps on the thread that reported the error. Callers use
+ * {@link #isBeforeDeadline(long, long)} to avoid scheduling a retry that
+ * would run after the delivery deadline.</p>
+ *
+ * <p>Each scheduler holds at most a fixed number of pending retries. When
+ * an API outage builds up more, {@link #schedule(Runnable, long)} refuses
+ * new retries, so that the notices are spooled or dropped instead of
+ * piling up in memory.</p>
+ *
+ * @since 2.0.1
+ */
+public class RetryScheduler {
+    /** Number of threads shared by all reporters for running retries. */
+    static final int RETRY_THREADS = 4;
+    /** Default maximum number of retries waiting to run per scheduler. */
+    public static final int MAX_PENDING_RETRIES = 1_000;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ScheduledThreadPoolExecutor SHARED_EXECUTOR = createExecutor();
+
+    private final long initialDelayMillis;
+    private final long maximumDelayMillis;
+    private final long deadlineMillis;
+    private final int maxPendingRetries;
+    private final AtomicInteger pendingRetries;
+
+    /**
+     * @param config configuration to read backoff settings and the delivery deadline from
+     */
+    public RetryScheduler(final ConfigContext config) {
+        this(config.getRetryInitialDelay(), config.getRetryMaximumDelay(),
+                config.getDeliveryDeadline());
+    }
+
+    /**
+     * @param initialDelayMillis maximum delay before the first retry
+     * @param maximumDelayMillis maximum delay before any retry
+     * @param deadlineMillis maximum time from the first attempt after which no retry is scheduled
+     */
+    public RetryScheduler(final long initialDelayMillis, final long maximumDelayMillis,
+                          final long deadlineMillis) {
+        this(initialDelayMillis, maximumDelayMillis, deadlineMillis, MAX_PENDING_RETRIES);
+    }
+
+    /**
+     * @param initialDelayMillis maximum delay before the first retry
+     * @param maximumDelayMillis maximum delay before any retry
+     * @param deadlineMillis maximum time from the first attempt after which no retry is scheduled
+     * @param maxPendingRetries maximum number of retries waiting to run
+     */
+    public RetryScheduler(final long initialDelayMillis, final long maximumDelayMillis,
+                          final long deadlineMillis, final int maxPendingRetries) {
+        this(initialDelayMillis, maximumDelayMillis, deadlineMillis, maxPendingRetries,
+                new AtomicInteger());
+    }
+
+    private RetryScheduler(final long initialDelayMillis, final long maximumDelayMillis,
+                           final long deadlineMillis, final int maxPendingRetries,
+                           final AtomicInteger pendingRetries) {
+        if (initialDelayMillis < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.retry_initial_delay_millis " +
+                    "must be an integer greater than or equal to 0");
+        }
+        if (maximumDelayMillis < initialDelayMillis) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.retry_maximum_delay_millis " +
+                    "must not be less than honeybadger.retry_initial_delay_millis");
+        }
+        if (deadlineMillis < 0) {
+            throw new IllegalArgumentException("Honeybadger property honeybadger.delivery_deadline_millis " +
+                    "must be an integer greater than or equal to 0");
+        }
+
+        this.initialDelayMillis = initialDelayMillis;
+        this.maximumDelayMillis = maximumDelayMillis;
+        this.deadlineMillis = deadlineMillis;
+        this.maxPendingRetries = maxPendingRetries;
+        this.pendingRetries = pendingRetries;
+    }
+
+    /**
+     * Creates a scheduler with new backoff settings and delivery deadline.
+     * The new scheduler shares this scheduler's limit and count of pending
+     * retries, so that retries scheduled by either count towards the same
+     * limit.
+     *
+     * @param config configuration to read backoff settings and the delivery deadline from
+     * @return scheduler using the new settings
+     */
+    public RetryScheduler reconfigure(final ConfigContext config) {
+        return new RetryScheduler(config.getRetryInitialDelay(), config.getRetryMaximumDelay(),
+                config.getDeliveryDeadline(), maxPendingRetries, pendingRetries);
+    }
+
+    /**
+     * Calculates a randomized delay for a retry.
+     *
+     * @param retry zero-based number of the retry
+     * @return delay in milliseconds
+     */
+    public long delayMillis(final int retry) {
+        final long ceiling = backoffCeiling(retry);
+
+        if (ceiling <= 0) {
+            return 0L;
+        }
+
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * @param startedNanos {@link System#nanoTime()} of the first attempt
+     * @param delayMillis delay before the next attempt
+     * @return true if an attempt made after the delay starts before the delivery deadline
+     */
+    public boolean isBeforeDeadline(final long startedNanos, final long delayMillis) {
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+
+        return elapsedMillis + delayMillis <= deadlineMillis;
+    }
+
+    /**
+     * Schedules a retry on the shared retry threads, unless the maximum
+     * number of pending retries has been reached.
+     *
+     * @param retry task that performs the next attempt
+     * @param delayMillis delay as returned by {@link #delayMillis(int)}
+     * @return true if the retry was scheduled, false if it was refused
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public boolean schedule(final Runnable retry, final long delayMillis) {
+        if (pendingRetries.incrementAndGet() > maxPendingRetries) {
+            pendingRetries.decrementAndGet();
+            return false;
+        }
+
+        SHARED_EXECUTOR.schedule(() -> {
+            pendingRetries.decrementAndGet();
+            retry.run();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+
+        return true;
+    }
+
+    /**
+     * @return number of retries waiting to run
+     */
+    public int getPendingRetries() {
+        return pendingRetries.get();
+    }
+
+    /**
+     * @return maximum time from the first attempt after which no retry is scheduled
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    long backoffCeiling(final int retry) {
+        // Past 2^62 the shift overflows and we are above any sane maximum anyways
+        final int exponent = Math.min(Math.max(retry, 0), 62);
+        final long multiplier = 1L << exponent;
+
+        if (initialDelayMillis > maximumDelayMillis / multiplier) {
+            return maximumDelayMillis;
+        }
+
+        return Math.min(maximumDelayMillis, initialDelayMillis * multiplier);
+    }
+
+    private static ScheduledThreadPoolExecutor createExecutor() {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(RETRY_THREADS,
+                runnable -> {
+                    final Thread thread = new Thread(runnable,
+                            "honeybadger-retry-" + THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.setRemoveOnCancelPolicy(true);
+
+        return executor;
+    }
+}
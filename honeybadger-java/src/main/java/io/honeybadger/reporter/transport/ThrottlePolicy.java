@@ -0,0 +1,14 @@
+package io.honeybadger.reporter.transport;
+
+/**
+ * Enum representing what happens to notices reported while the Honeybadger
+ * API has asked us to pause sending.
+ *
+ * @since 2.0.1
+ */
+public enum ThrottlePolicy {
+    /** Send notices once the pause expires, if that is before their delivery deadline. **/
+    HOLD,
+    /** Discard notices until the pause expires. **/
+    DROP
+}
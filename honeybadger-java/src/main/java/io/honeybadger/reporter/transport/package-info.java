@@ -0,0 +1,5 @@
+/**
+ * Classes responsible for delivering serialized notices to the Honeybadger
+ * API over HTTP are contained in this package.
+ */
+package io.honeybadger.reporter.transport;
@@ -0,0 +1,131 @@
+package io.honeybadger.reporter;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.FrozenConfigContext;
+import io.honeybadger.reporter.config.SystemSettingsConfigContext;
+import io.honeybadger.reporter.dto.Notice;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncHoneybadgerReporterTest {
+    static class BlockingReporter extends HoneybadgerReporter {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile String sendingThread;
+
+        BlockingReporter(final ConfigContext config) {
+            super(config);
+        }
+
+        @Override
+        protected void sendNotice(final FrozenConfigContext config, final Notice notice,
+                                  final Throwable error, final NoticeDelivery delivery) {
+            sendingThread = Thread.currentThread().getName();
+            started.countDown();
+
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            delivery.complete(new NoticeReportResult(UUID.randomUUID(), notice, error));
+        }
+    }
+
+    @Test
+    public void sendsNoticesOnBackgroundThread() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy");
+        BlockingReporter delegate = new BlockingReporter(config);
+
+        try (AsyncHoneybadgerReporter reporter = new AsyncHoneybadgerReporter(delegate)) {
+            CompletableFuture<NoticeReportResult> future =
+                    reporter.reportErrorAsync(new Exception("Background"));
+
+            assertTrue(delegate.started.await(10, TimeUnit.SECONDS));
+            delegate.release.countDown();
+
+            NoticeReportResult result = future.get(10, TimeUnit.SECONDS);
+            assertEquals("Background", result.getNotice().getError().getMessage());
+            assertNotEquals(Thread.currentThread().getName(), delegate.sendingThread);
+        }
+    }
+
+    @Test
+    public void reportsWithATokenSayWhetherTheErrorWasQueued() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy")
+                .setAsyncQueueCapacity(1)
+                .setAsyncSenderThreads(1);
+        BlockingReporter delegate = new BlockingReporter(config);
+
+        try (AsyncHoneybadgerReporter reporter = new AsyncHoneybadgerReporter(delegate)) {
+            assertTrue(reporter.reportErrorAsync(new Exception("In flight"), null, null,
+                    Collections.emptySet(), UUID.randomUUID()));
+            assertTrue(delegate.started.await(10, TimeUnit.SECONDS));
+            assertTrue(reporter.reportErrorAsync(new Exception("Queued"), null, null,
+                    Collections.emptySet(), UUID.randomUUID()));
+            assertFalse(reporter.reportErrorAsync(new Exception("Queue full"), null, null,
+                    Collections.emptySet(), UUID.randomUUID()));
+
+            delegate.release.countDown();
+        }
+    }
+
+    @Test
+    public void completesQueuedNoticesThatAreLeftOnClose() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy")
+                .setAsyncQueueCapacity(2)
+                .setAsyncSenderThreads(1);
+        BlockingReporter delegate = new BlockingReporter(config);
+        AsyncHoneybadgerReporter reporter = new AsyncHoneybadgerReporter(delegate);
+
+        reporter.reportError(new Exception("In flight"));
+        assertTrue(delegate.started.await(10, TimeUnit.SECONDS));
+        CompletableFuture<NoticeReportResult> queued =
+                reporter.reportErrorAsync(new Exception("Queued"));
+
+        reporter.close();
+        delegate.release.countDown();
+
+        assertNull(queued.get(1, TimeUnit.SECONDS));
+        assertEquals(0, reporter.getQueueSize());
+        assertNull(reporter.reportErrorAsync(new Exception("Closed")).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void dropsNoticesWhenQueueIsFull() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy")
+                .setAsyncQueueCapacity(1)
+                .setAsyncSenderThreads(1);
+        BlockingReporter delegate = new BlockingReporter(config);
+
+        try (AsyncHoneybadgerReporter reporter = new AsyncHoneybadgerReporter(delegate)) {
+            reporter.reportError(new Exception("In flight"));
+            assertTrue(delegate.started.await(10, TimeUnit.SECONDS));
+
+            CompletableFuture<NoticeReportResult> queued =
+                    reporter.reportErrorAsync(new Exception("Queued"));
+            CompletableFuture<NoticeReportResult> dropped =
+                    reporter.reportErrorAsync(new Exception("Dropped"));
+
+            assertNull(dropped.get(1, TimeUnit.SECONDS));
+            assertEquals(1L, reporter.getDroppedCount());
+            assertEquals(1, reporter.getQueueSize());
+
+            delegate.release.countDown();
+            assertEquals("Queued", queued.get(10, TimeUnit.SECONDS)
+                    .getNotice().getError().getMessage());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.honeybadger.reporter;
+
+import io.honeybadger.reporter.dto.ApplicationPackages;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ExceptionPoliciesTest {
+    interface Expected {
+    }
+
+    static class ExpectedException extends IllegalStateException implements Expected {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class MoreSpecificException extends ExpectedException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    @Test
+    public void subclassesOfExcludedClassesAreExcluded() {
+        ExceptionPolicies policies = new ExceptionPolicies(
+                Collections.singleton(RuntimeException.class.getName()));
+
+        assertTrue(policies.forClass(RuntimeException.class).isExcluded());
+        assertTrue(policies.forClass(UncheckedIOException.class).isExcluded());
+        assertFalse(policies.forClass(IOException.class).isExcluded());
+    }
+
+    @Test
+    public void classesImplementingExcludedInterfacesAreExcluded() {
+        ExceptionPolicies policies = new ExceptionPolicies(
+                Collections.singleton(Expected.class.getName()));
+
+        assertTrue(policies.forClass(MoreSpecificException.class).isExcluded());
+        assertFalse(policies.forClass(IllegalStateException.class).isExcluded());
+    }
+
+    @Test
+    public void policiesAreCachedPerClassAndExclusionSet() {
+        HashSet<String> excluded = new HashSet<>(Arrays.asList("co.foo.Exception"));
+        ExceptionPolicies policies = new ExceptionPolicies(excluded);
+
+        assertSame(policies.forClass(ExpectedException.class),
+                policies.forClass(ExpectedException.class));
+        assertTrue(policies.isFor(excluded));
+        assertFalse(policies.isFor(new HashSet<>(excluded)));
+    }
+
+    @Test
+    public void contextIsLeftOutOfMessagesAndFingerprints() {
+        ExceptionPolicy policy = new ExceptionPolicy(false, true);
+        ApplicationPackages packages = ApplicationPackages.of(null, null);
+        RuntimeException first = new RuntimeException("Lookup failed\nException Context:\n\t[1:user=alice]");
+        RuntimeException second = new RuntimeException("Lookup failed\nException Context:\n\t[1:user=bob]");
+        first.setStackTrace(second.getStackTrace());
+
+        assertEquals("Lookup failed", policy.message(first));
+        assertEquals(ExceptionPolicy.FingerprintStrategy.MESSAGE_WITHOUT_CONTEXT,
+                policy.getFingerprintStrategy());
+        assertEquals(policy.fingerprint(first, packages), policy.fingerprint(second, packages));
+        assertEquals(ExceptionPolicy.FingerprintStrategy.MESSAGE,
+                new ExceptionPolicy(false, false).getFingerprintStrategy());
+    }
+}
@@ -1,21 +1,48 @@
 package io.honeybadger.reporter;
 
 import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.FrozenConfigContext;
+import io.honeybadger.reporter.config.ReloadableConfigContext;
 import io.honeybadger.reporter.config.SystemSettingsConfigContext;
+import io.honeybadger.reporter.dto.Notice;
+import io.honeybadger.reporter.transport.NoticeTransport;
+import io.honeybadger.reporter.transport.ResponseClassification;
+import io.honeybadger.reporter.transport.RetryScheduler;
+import io.honeybadger.reporter.transport.ThrottlePolicy;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
 import org.apache.http.HttpVersion;
-import org.apache.http.client.fluent.FakeResponse;
-import org.apache.http.client.fluent.Response;
 import org.apache.http.impl.DefaultHttpResponseFactory;
 import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.util.EntityUtils;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 
 public class HoneyBadgerReporterTest {
@@ -26,10 +53,11 @@ public class HoneyBadgerReporterTest {
 
         public ExceptionThrowingReporter(ConfigContext configContext) {
             super(configContext);
+            setRetryScheduler(new RetryScheduler(0, 0, 10_000));
         }
 
         @Override
-        protected Response sendToHoneybadger(final String jsonError) throws IOException {
+        protected HttpResponse sendToHoneybadger(final HttpEntity jsonError) throws IOException {
             attemptCount = attemptCount + 1;
             logger.info("We Tried: " + attemptCount);
 
@@ -42,22 +70,59 @@ public class HoneyBadgerReporterTest {
 
         public BadResponseGivingReporter(ConfigContext configContext) {
             super(configContext);
+            setRetryScheduler(new RetryScheduler(0, 0, 10_000));
         }
 
         @Override
-        protected Response sendToHoneybadger(final String jsonError) throws IOException {
+        protected HttpResponse sendToHoneybadger(final HttpEntity jsonError) throws IOException {
             attemptCount = attemptCount + 1;
             logger.info("We Tried: " + attemptCount);
-            return new FakeResponse(
-                    new DefaultHttpResponseFactory().newHttpResponse(
-                        HttpVersion.HTTP_1_1,
-                        500,
-                        new BasicHttpContext()
-                    )
+            return new DefaultHttpResponseFactory().newHttpResponse(
+                    HttpVersion.HTTP_1_1,
+                    500,
+                    new BasicHttpContext()
             );
         }
     }
 
+    static class StatusGivingReporter extends HoneybadgerReporter {
+        final int status;
+        final String retryAfter;
+        int attemptCount = 0;
+
+        public StatusGivingReporter(ConfigContext configContext, int status, String retryAfter) {
+            super(configContext);
+            this.status = status;
+            this.retryAfter = retryAfter;
+            setRetryScheduler(new RetryScheduler(0, 0, 10_000));
+        }
+
+        @Override
+        protected HttpResponse sendToHoneybadger(final HttpEntity jsonError) throws IOException {
+            attemptCount = attemptCount + 1;
+            HttpResponse response = new DefaultHttpResponseFactory().newHttpResponse(
+                    HttpVersion.HTTP_1_1,
+                    status,
+                    new BasicHttpContext()
+            );
+
+            if (retryAfter != null) {
+                response.addHeader("Retry-After", retryAfter);
+            }
+
+            return response;
+        }
+    }
+
+    @Test
+    public void getConfigReturnsTheContextTheReporterWasCreatedWith() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy");
+
+        try (HoneybadgerReporter reporter = new HoneybadgerReporter(config)) {
+            assertSame(config, reporter.getConfig());
+        }
+    }
+
     @Test
     public void retriesUpTo3TimesWithDefaultConfig() throws Exception {
         ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy");
@@ -90,6 +155,9 @@ public class HoneyBadgerReporterTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void rejectsMaximumAttemptValuesLessThan0() throws Exception {
         ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy")
@@ -100,6 +168,59 @@ public class HoneyBadgerReporterTest {
         new ExceptionThrowingReporter(config);
     }
 
+    @Test
+    public void rejectsNegativeMaximumBacktraceFrames() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy")
+                .setMaxBacktraceFrames(-1);
+
+        thrown.expect(IllegalArgumentException.class);
+
+        new HoneybadgerReporter(config);
+    }
+
+    @Test
+    public void rejectsNegativeStatsInterval() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy")
+                .setStatsInterval(-1);
+
+        thrown.expect(IllegalArgumentException.class);
+
+        new HoneybadgerReporter(config);
+    }
+
+    @Test
+    public void rejectsNegativeCauseBudgets() throws Exception {
+        ConfigContext[] configs = {
+                new SystemSettingsConfigContext().setApiKey("dummy").setMaxCauses(-1),
+                new SystemSettingsConfigContext().setApiKey("dummy").setMaxCauseDepth(-1),
+                new SystemSettingsConfigContext().setApiKey("dummy").setMaxCauseFrames(-1)
+        };
+
+        for (ConfigContext config : configs) {
+            try {
+                new HoneybadgerReporter(config).close();
+                fail("Negative cause budget was accepted");
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage().startsWith("Honeybadger property honeybadger.max_cause"));
+            }
+        }
+    }
+
+    @Test
+    public void reloadsWithNegativeMaximumBacktraceFramesAreRejected() throws Exception {
+        Path file = folder.newFile("honeybadger.properties").toPath();
+
+        try (ReloadableConfigContext config = new ReloadableConfigContext(
+                new SystemSettingsConfigContext().setApiKey("dummy"), file)) {
+            HoneybadgerReporter reporter = new HoneybadgerReporter(config);
+            Files.write(file, "honeybadger.max_backtrace_frames=-1\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+
+            assertFalse(config.reload());
+            reporter.close();
+        }
+    }
+
     @Test
     public void retriesWithUnexpectedHttp500Response() throws Exception {
         ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy");
@@ -117,4 +238,252 @@ public class HoneyBadgerReporterTest {
         assertEquals(1, reporter.attemptCount);
         assertEquals(0, (long)config.getMaximumErrorReportingRetries());
     }
+
+    @Test
+    public void recordsEveryAttemptOfAsyncDelivery() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy");
+        ExceptionThrowingReporter reporter = new ExceptionThrowingReporter(config);
+        NoticeDelivery delivery = reporter.reportErrorAsync(new Exception("Always fail"));
+
+        assertNull(delivery.get(10, TimeUnit.SECONDS));
+
+        List<DeliveryAttempt> attempts = delivery.getAttempts();
+        assertEquals(4, attempts.size());
+        assertTrue(attempts.get(0).getFailure() instanceof IOException);
+        assertEquals(0L, attempts.get(0).getRetryDelayMillis());
+        assertEquals(-1L, attempts.get(3).getRetryDelayMillis());
+        assertFalse(attempts.get(3).isDelivered());
+    }
+
+    @Test
+    public void neverRetriesPermanentClientErrors() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy");
+        StatusGivingReporter reporter = new StatusGivingReporter(config, 422, null);
+        NoticeDelivery delivery = reporter.reportErrorAsync(new Exception("Rejected"));
+
+        assertNull(delivery.get(10, TimeUnit.SECONDS));
+        assertEquals(1, reporter.attemptCount);
+        assertEquals(ResponseClassification.PERMANENT,
+                delivery.getAttempts().get(0).getClassification());
+    }
+
+    @Test
+    public void pausesAllDeliveriesWhenThrottled() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("throttled")
+                .setThrottlePolicy(ThrottlePolicy.DROP);
+        StatusGivingReporter reporter = new StatusGivingReporter(config, 429, "120");
+
+        assertNull(reporter.reportError(new Exception("Throttled")));
+        assertEquals(1, reporter.attemptCount);
+        assertTrue(reporter.getTransport().getPauseRemainingMillis() > 60_000);
+
+        StatusGivingReporter other = new StatusGivingReporter(config, 201, null);
+        assertNull(other.reportError(new Exception("Dropped while paused")));
+        assertEquals(0, other.attemptCount);
+    }
+
+    @Test
+    public void reloadingTransportSettingsReleasesThePreviousTransport() throws Exception {
+        Path file = folder.newFile("honeybadger.properties").toPath();
+
+        try (ReloadableConfigContext config = new ReloadableConfigContext(
+                new SystemSettingsConfigContext().setApiKey("reloaded-transport"), file);
+             StatusGivingReporter reporter = new StatusGivingReporter(config, 201, null)) {
+            NoticeTransport before = reporter.getTransport();
+            Files.write(file, "honeybadger.socket_timeout_millis=1234\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            assertTrue(config.reload());
+
+            reporter.reportError(new Exception("Reloaded"));
+
+            assertNotSame(before, reporter.getTransport());
+            assertTrue(before.isClosed());
+        }
+    }
+
+    @Test
+    public void reloadedRetrySettingsAreApplied() throws Exception {
+        Path file = folder.newFile("honeybadger.properties").toPath();
+
+        try (ReloadableConfigContext config = new ReloadableConfigContext(
+                new SystemSettingsConfigContext().setApiKey("dummy"), file);
+             StatusGivingReporter reporter = new StatusGivingReporter(config, 201, null)) {
+            Files.write(file, "honeybadger.delivery_deadline_millis=1234\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            assertTrue(config.reload());
+
+            reporter.reportError(new Exception("Reloaded"));
+
+            assertEquals(1234, reporter.getRetryScheduler().getDeadlineMillis());
+        }
+    }
+
+    @Test
+    public void closedReportersStopValidatingReloads() throws Exception {
+        Path file = folder.newFile("honeybadger.properties").toPath();
+
+        try (ReloadableConfigContext config = new ReloadableConfigContext(
+                new SystemSettingsConfigContext().setApiKey("dummy"), file)) {
+            HoneybadgerReporter reporter = new HoneybadgerReporter(config);
+            Files.write(file, "honeybadger.maximum_retry_attempts=-1\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            assertFalse(config.reload());
+
+            reporter.close();
+
+            assertTrue(config.reload());
+        }
+    }
+
+    @Test
+    public void readsTheConfigurationOncePerReport() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy");
+        AtomicInteger snapshots = new AtomicInteger();
+        StatusGivingReporter reporter = new StatusGivingReporter(config, 201, null) {
+            @Override
+            protected FrozenConfigContext getConfigSnapshot() {
+                snapshots.incrementAndGet();
+                return super.getConfigSnapshot();
+            }
+        };
+
+        reporter.reportError(new Exception("Consistent"), null, "message");
+
+        assertEquals(1, snapshots.get());
+    }
+
+    @Test
+    public void closeReleasesTheTransportOnceDeliveriesFinish() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("closed-transport");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        HoneybadgerReporter reporter = new HoneybadgerReporter(config) {
+            @Override
+            protected HttpResponse sendToHoneybadger(final HttpEntity jsonError) throws IOException {
+                // The first attempt is made by the caller, the retry hangs
+                if (attempts.incrementAndGet() > 1) {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                throw new IOException("Slow API");
+            }
+        };
+        reporter.setRetryScheduler(new RetryScheduler(0, 0, 10_000));
+        NoticeDelivery delivery = reporter.reportErrorAsync(new Exception("In flight"));
+
+        reporter.close();
+        assertFalse(reporter.getTransport().isClosed());
+
+        release.countDown();
+        assertNull(delivery.get(10, TimeUnit.SECONDS));
+
+        // Waiters may wake up before the delivery's own callbacks have run
+        for (int i = 0; i < 100 && !reporter.getTransport().isClosed(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(reporter.getTransport().isClosed());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecatedStringSendDelegatesToTheEntitySend() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy");
+        List<String> sent = new CopyOnWriteArrayList<>();
+
+        try (HoneybadgerReporter reporter = new HoneybadgerReporter(config) {
+            @Override
+            protected HttpResponse sendToHoneybadger(final HttpEntity jsonError) throws IOException {
+                sent.add(EntityUtils.toString(jsonError, StandardCharsets.UTF_8));
+                throw new IOException("Not sent");
+            }
+        }) {
+            try {
+                reporter.sendToHoneybadger("{\"notice\":\"\u00e9\"}");
+                fail("The entity send wasn't called");
+            } catch (IOException e) {
+                assertEquals(Arrays.asList("{\"notice\":\"\u00e9\"}"), sent);
+            }
+        }
+    }
+
+    @Test
+    public void synchronousCallersWaitForRetriesAtMostTheSyncWaitBudget() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy")
+                .setSyncWaitTimeout(100);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> sendingThreads = new CopyOnWriteArrayList<>();
+        HoneybadgerReporter reporter = new HoneybadgerReporter(config) {
+            @Override
+            protected HttpResponse sendToHoneybadger(final HttpEntity jsonError) throws IOException {
+                sendingThreads.add(Thread.currentThread().getName());
+
+                // Only the retries hang, the first attempt fails right away
+                if (sendingThreads.size() > 1) {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                throw new IOException("Unresponsive API");
+            }
+        };
+        reporter.setRetryScheduler(new RetryScheduler(0, 0, 10_000));
+
+        try {
+            long start = System.nanoTime();
+            assertNull(reporter.reportError(new Exception("Slow API")));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000);
+            assertEquals(Thread.currentThread().getName(), sendingThreads.get(0));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void closeSendsAggregatedSummariesWithTheReportingThreadsMdc() throws Exception {
+        ConfigContext config = new SystemSettingsConfigContext().setApiKey("dummy")
+                .setAggregationWindow(60_000);
+        List<Notice> sent = new CopyOnWriteArrayList<>();
+        List<String> sendingThreads = new CopyOnWriteArrayList<>();
+        HoneybadgerReporter reporter = new HoneybadgerReporter(config) {
+            @Override
+            protected void sendNotice(final FrozenConfigContext config, final Notice notice,
+                                      final Throwable error, final NoticeDelivery delivery) {
+                sent.add(notice);
+                sendingThreads.add(Thread.currentThread().getName());
+                delivery.complete(null);
+            }
+        };
+        Exception error = new Exception("Repeated");
+
+        try {
+            MDC.put("request_id", "first");
+            reporter.reportError(error);
+            MDC.put("request_id", "second");
+            reporter.reportError(error);
+            MDC.put("request_id", "caller");
+
+            reporter.close();
+
+            // Summaries are built by close() and sent on the retry threads
+            for (int i = 0; i < 100 && sent.size() < 2; i++) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(2, sent.size());
+            assertNotEquals(Thread.currentThread().getName(), sendingThreads.get(1));
+            Map<String, String> mdc = sent.get(1).getDetails().get("MDC Properties");
+            assertEquals("second", mdc.get("request_id"));
+            assertEquals("caller", MDC.get("request_id"));
+        } finally {
+            MDC.clear();
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package io.honeybadger.reporter;
+
+import io.honeybadger.reporter.play.PlayRequestAdapter;
+import io.honeybadger.reporter.servlet.HttpServletRequestAdapter;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class RequestAdaptersTest {
+    @Test
+    public void builtInAdaptersAreDiscovered() {
+        assertEquals(2, RequestAdapters.getAdapters().size());
+        assertTrue(RequestAdapters.getAdapters().get(0) instanceof HttpServletRequestAdapter);
+        assertTrue(RequestAdapters.getAdapters().get(1) instanceof PlayRequestAdapter);
+    }
+
+    @Test
+    public void implementationsOfARequestTypeUseItsAdapter() {
+        Class<?> requestClass = mock(HttpServletRequest.class).getClass();
+        RequestAdapter adapter = RequestAdapters.forType(requestClass);
+
+        assertTrue(adapter instanceof HttpServletRequestAdapter);
+        assertSame(adapter, RequestAdapters.forType(requestClass));
+    }
+
+    @Test
+    public void unsupportedRequestsHaveNoAdapter() {
+        assertNull(RequestAdapters.forType(String.class));
+    }
+}
@@ -0,0 +1,61 @@
+package io.honeybadger.reporter.aggregation;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ErrorAggregatorTest {
+    private final List<String> summaries = new ArrayList<>();
+
+    private void sendSummary(final String fingerprint, final String sample,
+                             final long occurrences, final long windowMillis) {
+        summaries.add(String.format("%s:%s:%d", fingerprint, sample, occurrences));
+    }
+
+    @Test
+    public void sendsFirstOccurrenceAndSummarizesTheRest() {
+        try (ErrorAggregator<String> aggregator = new ErrorAggregator<>(60_000, this::sendSummary)) {
+            assertTrue(aggregator.admit("a", "a-1"));
+            assertFalse(aggregator.admit("a", "a-2"));
+            assertFalse(aggregator.admit("a", "a-3"));
+            assertTrue(aggregator.admit("b", "b-1"));
+
+            aggregator.flush();
+
+            assertEquals(1, summaries.size());
+            assertEquals("a:a-3:2", summaries.get(0));
+        }
+    }
+
+    @Test
+    public void keepsCountingWhileErrorsContinue() {
+        try (ErrorAggregator<String> aggregator = new ErrorAggregator<>(60_000, this::sendSummary)) {
+            aggregator.admit("a", "a-1");
+            aggregator.admit("a", "a-2");
+            aggregator.flush();
+
+            assertFalse(aggregator.admit("a", "a-3"));
+            aggregator.flush();
+
+            assertEquals(2, summaries.size());
+            assertEquals("a:a-3:1", summaries.get(1));
+        }
+    }
+
+    @Test
+    public void forgetsFingerprintsAfterAQuietWindow() {
+        try (ErrorAggregator<String> aggregator = new ErrorAggregator<>(60_000, this::sendSummary)) {
+            aggregator.admit("a", "a-1");
+            aggregator.flush();
+
+            assertEquals(0, aggregator.getTrackedCount());
+            assertTrue(aggregator.admit("a", "a-2"));
+            assertTrue(summaries.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.honeybadger.reporter.aggregation;
+
+import io.honeybadger.reporter.dto.ApplicationPackages;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class ErrorFingerprintTest {
+    private static Exception create(final String message) {
+        return new IllegalStateException(message);
+    }
+
+    private static String fingerprint(final Exception error, final String applicationPackage) {
+        return ErrorFingerprint.of(error, error.getMessage(),
+                ApplicationPackages.of(applicationPackage, Collections.emptySet()));
+    }
+
+    @Test
+    public void ignoresNumbersInMessages() {
+        String[] fingerprints = new String[2];
+
+        for (int i = 0; i < fingerprints.length; i++) {
+            Exception error = create(String.format("Timeout after %ds on port %d", 30 + i, 8080 + i));
+            fingerprints[i] = fingerprint(error, null);
+        }
+
+        assertEquals(fingerprints[0], fingerprints[1]);
+    }
+
+    @Test
+    public void distinguishesMessages() {
+        assertNotEquals(fingerprint(create("Connection refused"), null),
+                fingerprint(create("Connection reset"), null));
+    }
+
+    @Test
+    public void distinguishesThrowSites() {
+        Exception first = create("Same message");
+        Exception second = create("Same message");
+
+        assertNotEquals(fingerprint(first, "io.honeybadger"),
+                fingerprint(second, "io.honeybadger"));
+    }
+
+    @Test
+    public void replacesDigitRunsWithPlaceholder() {
+        StringBuilder builder = new StringBuilder();
+        ErrorFingerprint.appendMessageTemplate(builder, "user 1234 order 56");
+
+        assertEquals("user # order #", builder.toString());
+    }
+}
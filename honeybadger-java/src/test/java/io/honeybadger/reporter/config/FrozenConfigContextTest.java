@@ -0,0 +1,134 @@
+package io.honeybadger.reporter.config;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class FrozenConfigContextTest {
+    @Test
+    public void valuesAreReadOnce() {
+        Map<String, Object> configMap = ImmutableMap.of(
+            "honeybadger.excluded_exception_classes", "co.foo.Exception, co.bar.Exception",
+            "honeybadger.maximum_retry_attempts", "5"
+        );
+        ConfigContext frozen = new MapConfigContext(configMap).freeze();
+
+        assertSame(frozen.getExcludedClasses(), frozen.getExcludedClasses());
+        assertEquals(2, frozen.getExcludedClasses().size());
+        assertEquals(5, (int) frozen.getMaximumErrorReportingRetries());
+    }
+
+    @Test
+    public void noticesUriIsResolvedOnce() {
+        FrozenConfigContext frozen = FrozenConfigContext.of(new StandardConfigContext("api-key")
+                .setHoneybadgerUrl(URI.create("https://api.example.com")));
+
+        assertEquals(URI.create("https://api.example.com/v1/notices"), frozen.getNoticesUri());
+        assertSame(frozen.getNoticesUri(), frozen.getNoticesUri());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void setsAreUnmodifiable() {
+        new StandardConfigContext("api-key").freeze().getExcludedSysProps().add("other");
+    }
+
+    @Test
+    public void snapshotIsNotAffectedByLaterChanges() {
+        StandardConfigContext context = new StandardConfigContext("api-key");
+        context.setEnvironment("production");
+        ConfigContext frozen = context.freeze();
+
+        context.setEnvironment("staging");
+
+        assertEquals("production", frozen.getEnvironment());
+        assertSame(frozen, frozen.freeze());
+        assertEquals(frozen, new StandardConfigContext("api-key").setEnvironment("production").freeze());
+    }
+
+    @Test
+    public void contextsWrittenBeforeNewPropertiesGetTheDefaults() {
+        ConfigContext frozen = new LegacyConfigContext().freeze();
+
+        assertEquals(DefaultsConfigContext.DEFAULT_CONNECT_TIMEOUT, frozen.getConnectTimeout());
+        assertEquals(DefaultsConfigContext.DEFAULT_ASYNC_QUEUE_CAPACITY, frozen.getAsyncQueueCapacity());
+        assertEquals(Collections.emptySet(), frozen.getExcludedApplicationPackages());
+        assertEquals("legacy", frozen.getEnvironment());
+    }
+
+    /**
+     * Implements only the properties that existed before 2.0.1.
+     */
+    private static class LegacyConfigContext implements ConfigContext {
+        @Override
+        public String getEnvironment() {
+            return "legacy";
+        }
+
+        @Override
+        public URI getHoneybadgerUrl() {
+            return URI.create("https://api.honeybadger.io");
+        }
+
+        @Override
+        public String getApiKey() {
+            return "api-key";
+        }
+
+        @Override
+        public Set<String> getExcludedSysProps() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Set<String> getExcludedParams() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Set<String> getExcludedClasses() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public String getApplicationPackage() {
+            return null;
+        }
+
+        @Override
+        public String getHoneybadgerReadApiKey() {
+            return null;
+        }
+
+        @Override
+        public Boolean isFeedbackFormDisplayed() {
+            return true;
+        }
+
+        @Override
+        public String getFeedbackFormPath() {
+            return DefaultsConfigContext.DEFAULT_FEEDBACK_FORM_TEMPLATE_PATH;
+        }
+
+        @Override
+        public String getHttpProxyHost() {
+            return null;
+        }
+
+        @Override
+        public Integer getHttpProxyPort() {
+            return null;
+        }
+
+        @Override
+        public Integer getMaximumErrorReportingRetries() {
+            return 3;
+        }
+    }
+}
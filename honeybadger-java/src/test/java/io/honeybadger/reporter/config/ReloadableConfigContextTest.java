@@ -0,0 +1,104 @@
+package io.honeybadger.reporter.config;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ReloadableConfigContextTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void fileValuesOverwriteTheBaseContext() throws Exception {
+        Path file = write("honeybadger.maximum_retry_attempts=7\n");
+
+        try (ReloadableConfigContext config = new ReloadableConfigContext(
+                new StandardConfigContext("api-key"), file)) {
+            assertEquals(7, (int) config.getMaximumErrorReportingRetries());
+            assertEquals("api-key", config.getApiKey());
+        }
+    }
+
+    @Test
+    public void missingFileUsesTheBaseContext() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("missing.properties");
+
+        try (ReloadableConfigContext config = new ReloadableConfigContext(
+                new StandardConfigContext("api-key"), file)) {
+            assertEquals(DefaultsConfigContext.DEFAULT_MAX_CAUSES, config.getMaxCauses());
+        }
+    }
+
+    @Test
+    public void reloadPublishesANewSnapshot() throws Exception {
+        Path file = write("honeybadger.excluded_exception_classes=co.foo.Exception\n");
+
+        try (ReloadableConfigContext config = new ReloadableConfigContext(
+                new StandardConfigContext("api-key"), file)) {
+            FrozenConfigContext before = config.snapshot();
+            Files.write(file, "honeybadger.excluded_exception_classes=co.bar.Exception\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+
+            assertTrue(config.reload());
+            assertNotSame(before, config.snapshot());
+            assertEquals(Collections.singleton("co.bar.Exception"), config.getExcludedClasses());
+        }
+    }
+
+    @Test
+    public void rejectedSnapshotsAreNotPublished() throws Exception {
+        Path file = write("honeybadger.maximum_retry_attempts=3\n");
+
+        try (ReloadableConfigContext config = new ReloadableConfigContext(
+                new StandardConfigContext("api-key"), file)) {
+            config.addValidator(c -> {
+                if (c.getMaximumErrorReportingRetries() < 0) {
+                    throw new IllegalArgumentException("negative retries");
+                }
+            });
+            FrozenConfigContext before = config.snapshot();
+            Files.write(file, "honeybadger.maximum_retry_attempts=-1\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+
+            assertFalse(config.reload());
+            assertSame(before, config.snapshot());
+        }
+    }
+
+    @Test
+    public void changesToTheFileAreWatched() throws Exception {
+        Path file = write("honeybadger.maximum_retry_attempts=3\n");
+
+        try (ReloadableConfigContext config = new ReloadableConfigContext(
+                new StandardConfigContext("api-key"), file)) {
+            Files.write(file, "honeybadger.maximum_retry_attempts=9\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+            while (config.getMaximumErrorReportingRetries() != 9 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+
+            assertEquals(9, (int) config.getMaximumErrorReportingRetries());
+        }
+    }
+
+    private Path write(final String contents) throws Exception {
+        Path file = folder.newFile("honeybadger.properties").toPath();
+        Files.write(file, contents.getBytes(StandardCharsets.ISO_8859_1));
+        return file;
+    }
+}
@@ -0,0 +1,63 @@
+package io.honeybadger.reporter.dto;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ApplicationPackagesTest {
+    @Test
+    public void classesUnderAnyApplicationPackageBelongToTheApplication() {
+        ApplicationPackages packages = new ApplicationPackages("com.example.billing, com.example.shipping,org.acme",
+                null);
+
+        assertTrue(packages.isApplicationClass("com.example.billing.Invoice"));
+        assertTrue(packages.isApplicationClass("com.example.shipping.Parcel"));
+        assertTrue(packages.isApplicationClass("org.acme.Main"));
+        assertFalse(packages.isApplicationClass("com.example.Shared"));
+        assertFalse(packages.isApplicationClass("java.lang.Thread"));
+        assertTrue(packages.matches("org.acme.Main.run"));
+    }
+
+    @Test
+    public void longestMatchingPrefixDecides() {
+        ApplicationPackages packages = new ApplicationPackages("com.example",
+                new HashSet<>(Arrays.asList("com.example.generated", "com.example.generated.keep")));
+
+        assertTrue(packages.isApplicationClass("com.example.Service"));
+        assertFalse(packages.isApplicationClass("com.example.generated.Proxy"));
+        assertFalse("Exclusions only apply below an application package",
+                packages.isApplicationClass("com.other.generated.Proxy"));
+    }
+
+    @Test
+    public void noApplicationPackageMeansNoApplicationClasses() {
+        ApplicationPackages packages = new ApplicationPackages(null,
+                Collections.singleton("com.example"));
+
+        assertTrue(packages.isEmpty());
+        assertFalse(packages.isApplicationClass("com.example.Service"));
+    }
+
+    @Test
+    public void configurationsWithTheSamePackagesShareAClassifier() {
+        ConfigContext first = new StandardConfigContext("api-key")
+                .setApplicationPackage("com.example,org.acme");
+        ConfigContext second = new StandardConfigContext("api-key")
+                .setApplicationPackage("com.example,org.acme");
+        ConfigContext other = new StandardConfigContext("api-key")
+                .setApplicationPackage("org.acme");
+
+        ApplicationPackages shared = ApplicationPackages.forConfig(first);
+
+        ApplicationPackages.forConfig(other);
+        assertSame(shared, ApplicationPackages.forConfig(second));
+    }
+}
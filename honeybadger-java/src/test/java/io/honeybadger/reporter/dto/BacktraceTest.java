@@ -0,0 +1,58 @@
+package io.honeybadger.reporter.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class BacktraceTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    @Test
+    public void serializesFramesWithoutCreatingElements() throws Exception {
+        ConfigContext config = new StandardConfigContext("api-key")
+                .setApplicationPackage("io.honeybadger");
+        RuntimeException error = new RuntimeException("lazy");
+        error.setStackTrace(new StackTraceElement[] {
+                new StackTraceElement("io.honeybadger.example.Service", "handle", "Service.java", 42),
+                new StackTraceElement("com.example.Unknown", "run", null, -1),
+                new StackTraceElement("java.lang.Thread", "run", "Thread.java", 748)
+        });
+
+        Backtrace backtrace = new Backtrace(config, error);
+        String lazy = OBJECT_MAPPER.writeValueAsString(backtrace);
+
+        assertNotNull(backtrace.getFrames());
+        assertEquals(3, backtrace.size());
+
+        backtrace.get(0);
+        assertNull(backtrace.getFrames());
+
+        assertEquals(OBJECT_MAPPER.writeValueAsString(backtrace), lazy);
+        assertEquals(OBJECT_MAPPER.writeValueAsString(new Backtrace(config, error)), lazy);
+        assertEquals("[{\"number\":\"42\",\"file\":\"Service.java\"," +
+                "\"method\":\"io.honeybadger.example.Service.handle\",\"context\":\"app\"}," +
+                "{\"number\":\"-1\",\"file\":\"null\",\"method\":\"com.example.Unknown.run\"," +
+                "\"context\":\"all\"},{\"number\":\"748\",\"file\":\"Thread.java\"," +
+                "\"method\":\"java.lang.Thread.run\",\"context\":\"all\"}]", lazy);
+    }
+
+    @Test
+    public void lazyAndMaterializedBacktracesAreEqual() {
+        ConfigContext config = new StandardConfigContext("api-key");
+        RuntimeException error = new RuntimeException("equality");
+
+        Backtrace lazy = new Backtrace(config, error);
+        Backtrace materialized = new Backtrace(config, error);
+        materialized.iterator();
+
+        assertEquals(materialized, lazy);
+        assertEquals(materialized.hashCode(), lazy.hashCode());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class CausesTest {
     private final ConfigContext config;
@@ -58,4 +59,53 @@ public class CausesTest {
         assertEquals("The fourth cause class should be stored first",
                 cause4.getMessage(), causes.get(0).getMessage());
     }
+
+    @Test
+    public void causeCyclesAreVisitedOnce() {
+        Throwable cause2 = new RuntimeException("Cause 2");
+        Throwable cause1 = new RuntimeException("Cause 1", cause2);
+        cause2.initCause(cause1);
+
+        Throwable e = new RuntimeException("Highest level", cause1);
+
+        Causes causes = new Causes(config, e);
+
+        assertEquals("Each cause in the cycle should be stored once",
+                2, causes.size());
+        assertEquals(cause2.getMessage(), causes.get(0).getMessage());
+        assertEquals(cause1.getMessage(), causes.get(1).getMessage());
+    }
+
+    @Test
+    public void suppressedErrorsAreStoredAfterTheirCause() {
+        Throwable cause = new RuntimeException("Cause");
+        Throwable e = new RuntimeException("Highest level", cause);
+        Throwable suppressed = new IllegalStateException("Suppressed");
+        e.addSuppressed(suppressed);
+        e.addSuppressed(cause);
+
+        Causes causes = new Causes(config, e);
+
+        assertEquals(2, causes.size());
+        assertEquals(suppressed.getMessage(), causes.get(0).getMessage());
+        assertEquals(cause.getMessage(), causes.get(1).getMessage());
+    }
+
+    @Test
+    public void traversalStopsAtItsBudgets() {
+        Throwable e = new RuntimeException("Highest level", new RuntimeException("Cause 1",
+                new RuntimeException("Cause 2", new RuntimeException("Cause 3"))));
+
+        when(config.getMaxCauseDepth()).thenReturn(2);
+        assertEquals(2, new Causes(config, e).size());
+
+        when(config.getMaxCauses()).thenReturn(1);
+        assertEquals(1, new Causes(config, e).size());
+
+        when(config.getMaxCauses()).thenReturn(null);
+        when(config.getMaxCauseDepth()).thenReturn(null);
+        when(config.getMaxCauseFrames()).thenReturn(1);
+        assertEquals("Causes should stop once the frame budget is used up",
+                1, new Causes(config, e).size());
+    }
 }
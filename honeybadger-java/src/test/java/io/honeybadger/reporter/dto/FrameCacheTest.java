@@ -0,0 +1,54 @@
+package io.honeybadger.reporter.dto;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class FrameCacheTest {
+    private static final StackTraceElement FRAME = new StackTraceElement(
+            "io.honeybadger.example.Service", "handle", "Service.java", 42);
+
+    @Test
+    public void recurringFramesShareAnElement() {
+        ConfigContext config = new StandardConfigContext("api-key")
+                .setApplicationPackage("io.honeybadger.example");
+        FrameCache cache = new FrameCache();
+
+        BacktraceElement element = cache.get(config, FRAME);
+
+        assertSame(element, cache.get(config, new StackTraceElement(
+                "io.honeybadger.example.Service", "handle", "Service.java", 42)));
+        assertEquals("io.honeybadger.example.Service.handle", element.getMethod());
+        assertEquals("Service.java", element.getFile());
+        assertEquals("42", element.getNumber());
+        assertEquals("app", element.getContext());
+    }
+
+    @Test
+    public void applicationPackagesHaveSeparateCaches() {
+        ConfigContext app = new StandardConfigContext("api-key")
+                .setApplicationPackage("io.honeybadger.example");
+        ConfigContext other = new StandardConfigContext("api-key")
+                .setApplicationPackage("com.example");
+
+        assertSame(FrameCache.forConfig(app), FrameCache.forConfig(app));
+        assertNotSame(FrameCache.forConfig(app), FrameCache.forConfig(other));
+        assertEquals("all", FrameCache.forConfig(other).get(other, FRAME).getContext());
+    }
+
+    @Test
+    public void cacheIsBounded() {
+        ConfigContext config = new StandardConfigContext("api-key");
+        FrameCache cache = new FrameCache();
+
+        for (int i = 0; i < FrameCache.MAX_FRAMES + 100; i++) {
+            cache.get(config, new StackTraceElement("Generated", "method" + i, null, i));
+        }
+
+        assertEquals(FrameCache.MAX_FRAMES, cache.size());
+    }
+}
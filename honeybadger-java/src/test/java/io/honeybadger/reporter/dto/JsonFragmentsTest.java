@@ -0,0 +1,67 @@
+package io.honeybadger.reporter.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class JsonFragmentsTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    @Test
+    public void rawFragmentsMatchFieldByFieldSerialization() throws Exception {
+        ConfigContext config = new StandardConfigContext("api-key");
+        Notice notice = new Notice(config)
+                .setError(new NoticeDetails(config, new RuntimeException("fragments")));
+
+        // valueToTree writes to a TokenBuffer, which doesn't take raw JSON. It is
+        // written out and read back so that numbers are typed as when parsed.
+        JsonNode expected = OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(
+                OBJECT_MAPPER.valueToTree(notice)));
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(expected, OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(notice)));
+            assertEquals(expected, OBJECT_MAPPER.readTree(
+                    OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(notice)));
+        }
+    }
+
+    @Test
+    public void fragmentsAreRenderedAgainWhenValuesChange() throws Exception {
+        ServerDetails production = new ServerDetails("production", "host-a", "/srv", 1, null, null);
+        ServerDetails staging = new ServerDetails("staging", "host-a", "/srv", 1, "2018-01-01T00:00Z", null);
+
+        assertEquals("{\"environment_name\":\"production\",\"hostname\":\"host-a\"," +
+                "\"project_root\":\"/srv\",\"pid\":1}", OBJECT_MAPPER.writeValueAsString(production));
+        assertEquals("{\"environment_name\":\"staging\",\"hostname\":\"host-a\"," +
+                "\"project_root\":\"/srv\",\"pid\":1,\"time\":\"2018-01-01T00:00Z\"}",
+                OBJECT_MAPPER.writeValueAsString(staging));
+    }
+
+    @Test
+    public void serverWithoutIdentityFieldsIsAnEmptyObject() throws Exception {
+        ServerDetails empty = new ServerDetails(null, null, null, null, "2018-01-01T00:00Z", null);
+
+        assertEquals("{\"time\":\"2018-01-01T00:00Z\"}", OBJECT_MAPPER.writeValueAsString(empty));
+    }
+
+    @Test
+    public void prettyPrintedServerIsValidJsonWhateverFieldsAreLeftOut() throws Exception {
+        ServerDetails[] servers = {
+                new ServerDetails("production", "host-a", "/srv", 1, null, null),
+                new ServerDetails("production", null, "/srv", null, "2018-01-01T00:00Z", null),
+                new ServerDetails(null, null, null, 1, null, null)};
+
+        for (ServerDetails server : servers) {
+            String json = OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(server);
+
+            assertEquals(OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(
+                    OBJECT_MAPPER.valueToTree(server))), OBJECT_MAPPER.readTree(json));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.honeybadger.reporter.dto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing the <code>test_meminfo</code> fixture with
+ * {@link ProcFsReader} against the regex and Scanner based parser it
+ * replaced. Run with:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) \
+ *     io.honeybadger.reporter.dto.ProcFsReaderBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcFsReaderBenchmark {
+    private File memInfo;
+
+    @Setup
+    public void findFixture() throws URISyntaxException {
+        memInfo = new File(getClass().getClassLoader().getResource("test_meminfo").toURI());
+    }
+
+    @Benchmark
+    public Map<String, Long> procFsReader() {
+        return Memory.findLinuxMemInfo(memInfo);
+    }
+
+    @Benchmark
+    public Map<String, Long> regexAndScanner() throws FileNotFoundException {
+        return legacyFindLinuxMemInfo(memInfo);
+    }
+
+    /**
+     * Parser used by {@link Memory} up to 2.0.0.
+     */
+    @SuppressWarnings("StringSplitter")
+    static Map<String, Long> legacyFindLinuxMemInfo(final File memInfoFile)
+            throws FileNotFoundException {
+        final HashMap<String, Long> memInfo = new HashMap<>(50);
+
+        try (Scanner scanner = new Scanner(memInfoFile, StandardCharsets.US_ASCII.name())) {
+            while (scanner.hasNext()) {
+                final String line = scanner.nextLine();
+                final String[] fields = line.split("(:?)\\s+", 3);
+                memInfo.put(fields[0], Long.parseLong(fields[1]) / 1024L);
+            }
+        }
+
+        memInfo.put("FreeTotal", memInfo.getOrDefault("MemFree", 0L)
+                + memInfo.getOrDefault("Buffers", 0L) + memInfo.getOrDefault("Cached", 0L));
+
+        return memInfo;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProcFsReaderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,71 @@
+package io.honeybadger.reporter.dto;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ProcFsReaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsRequestedKeysOnly() throws Exception {
+        File memInfo = write("MemTotal:       32888732 kB\n" +
+                "MemFree:          418480 kB\n" +
+                "MemAvailable:    1000000 kB\n" +
+                "HugePages_Total:       0\n");
+
+        long[] values = new ProcFsReader(ProcFsReader.BUFFER_SIZE).readKeyedValues(memInfo,
+                ProcFsReader.key("HugePages_Total"), ProcFsReader.key("MemFree"),
+                ProcFsReader.key("Mem"), ProcFsReader.key("Cached"));
+
+        assertArrayEquals(new long[] {0L, 418480L, ProcFsReader.MISSING, ProcFsReader.MISSING},
+                values);
+    }
+
+    @Test
+    public void readsLoadAverages() throws Exception {
+        File loadavg = write("1.36 12.90 0.05 2/74 3646\n");
+
+        double[] values = new ProcFsReader(ProcFsReader.BUFFER_SIZE).readDecimalFields(loadavg, 3);
+
+        assertArrayEquals(new double[] {1.36, 12.90, 0.05}, values, 0.0);
+    }
+
+    @Test
+    public void missingFieldsAreNaN() throws Exception {
+        File loadavg = write("0.81\n");
+
+        double[] values = new ProcFsReader(ProcFsReader.BUFFER_SIZE).readDecimalFields(loadavg, 3);
+
+        assertEquals(0.81, values[0], 1e-9);
+        assertTrue(Double.isNaN(values[1]));
+        assertTrue(Double.isNaN(values[2]));
+    }
+
+    @Test
+    public void matchesTheLegacyMemInfoParser() throws Exception {
+        File memInfo = new File(getClass().getClassLoader().getResource("test_meminfo").toURI());
+        Map<String, Long> legacy = ProcFsReaderBenchmark.legacyFindLinuxMemInfo(memInfo);
+        Map<String, Long> current = Memory.findLinuxMemInfo(memInfo);
+
+        for (String key : new String[] {"MemTotal", "MemFree", "Buffers", "Cached", "FreeTotal"}) {
+            assertEquals(key, legacy.get(key), current.get(key));
+        }
+    }
+
+    private File write(final String contents) throws Exception {
+        File file = folder.newFile();
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+}
@@ -0,0 +1,62 @@
+package io.honeybadger.reporter.dto;
+
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.junit.Test;
+
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class ProcessIdentityTest {
+    @Test
+    public void identityIsResolvedOnce() {
+        ProcessIdentity identity = ProcessIdentity.get();
+
+        assertNotNull(identity.getHostname());
+        assertEquals(ServerDetails.projectRoot(), identity.getProjectRoot());
+        assertEquals(ServerDetails.pid(), identity.getPid());
+    }
+
+    @Test
+    public void serverDetailsCopyTheProcessIdentity() {
+        ServerDetails details = new ServerDetails(new StandardConfigContext("api-key"));
+        ProcessIdentity identity = ProcessIdentity.get();
+
+        // The hostname may still change once if it is being looked up in the background
+        assertNotNull(details.getHostname());
+        assertEquals(identity.getProjectRoot(), details.getProjectRoot());
+        assertEquals(identity.getPid(), details.getPid());
+    }
+
+    @Test
+    public void failedHostnameLookupsAreRetried() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        String hostname = ProcessIdentity.lookUpWithRetries(() -> {
+            if (lookups.incrementAndGet() < 3) {
+                throw new UnknownHostException("DNS not ready");
+            }
+
+            return "late-host";
+        }, 1, 5);
+
+        assertEquals("late-host", hostname);
+        assertEquals(3, lookups.get());
+    }
+
+    @Test
+    public void hostnameLookupsGiveUpAfterTheMaximumAttempts() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        String hostname = ProcessIdentity.lookUpWithRetries(() -> {
+            lookups.incrementAndGet();
+            throw new UnknownHostException("DNS down");
+        }, 1, 3);
+
+        assertNull(hostname);
+        assertEquals(3, lookups.get());
+    }
+}
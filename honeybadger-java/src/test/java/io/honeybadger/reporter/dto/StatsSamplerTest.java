@@ -0,0 +1,45 @@
+package io.honeybadger.reporter.dto;
+
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class StatsSamplerTest {
+    @Test
+    public void noticesShareTheLatestSnapshotUntilTheNextSample() {
+        StatsSampler sampler = new StatsSampler(60_000);
+        Stats first = sampler.current();
+
+        assertNotNull(first.getMem());
+        assertNotNull(first.getLoad());
+        assertSame(first, sampler.current());
+
+        sampler.sample();
+
+        assertNotSame(first, sampler.current());
+    }
+
+    @Test
+    public void intervalOfZeroReadsFreshStatsEveryTime() {
+        StatsSampler sampler = new StatsSampler(0);
+
+        assertNotSame(sampler.current(), sampler.current());
+    }
+
+    @Test
+    public void reportersWithTheSameIntervalShareASampler() {
+        StandardConfigContext config1 = new StandardConfigContext("api-key");
+        StandardConfigContext config2 = new StandardConfigContext("other-key");
+        config2.setStatsInterval(config1.getStatsInterval());
+
+        assertSame(StatsSampler.forConfig(config1), StatsSampler.forConfig(config2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeInterval() {
+        new StatsSampler(-1);
+    }
+}
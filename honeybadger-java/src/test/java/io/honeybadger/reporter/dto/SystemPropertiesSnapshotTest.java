@@ -0,0 +1,68 @@
+package io.honeybadger.reporter.dto;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class SystemPropertiesSnapshotTest {
+    private static final String PROPERTY = "honeybadger.test.snapshot";
+
+    @After
+    public void clearProperty() {
+        System.clearProperty(PROPERTY);
+        SystemPropertiesSnapshot.invalidate();
+    }
+
+    @Test
+    public void unchangedPropertiesShareASnapshot() {
+        Set<String> excluded = Collections.emptySet();
+
+        assertSame(SystemPropertiesSnapshot.get(excluded), SystemPropertiesSnapshot.get(excluded));
+    }
+
+    @Test
+    public void addedPropertiesRebuildTheSnapshot() {
+        Set<String> excluded = Collections.emptySet();
+        Map<String, String> before = SystemPropertiesSnapshot.get(excluded);
+
+        System.setProperty(PROPERTY, "added");
+        Map<String, String> after = SystemPropertiesSnapshot.get(excluded);
+
+        assertNotSame(before, after);
+        assertEquals("added", after.get(PROPERTY));
+    }
+
+    @Test
+    public void changedValuesAreReportedAfterInvalidation() {
+        Set<String> excluded = Collections.emptySet();
+        System.setProperty(PROPERTY, "before");
+        SystemPropertiesSnapshot.get(excluded);
+
+        System.setProperty(PROPERTY, "after");
+        SystemPropertiesSnapshot.invalidate();
+
+        assertEquals("after", SystemPropertiesSnapshot.get(excluded).get(PROPERTY));
+    }
+
+    @Test
+    public void excludedPropertiesAreLeftOut() {
+        System.setProperty(PROPERTY, "secret");
+
+        assertFalse(SystemPropertiesSnapshot.get(Collections.singleton(PROPERTY))
+                .containsKey(PROPERTY));
+        assertEquals("secret", SystemPropertiesSnapshot.get(Collections.emptySet()).get(PROPERTY));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void snapshotIsImmutable() {
+        SystemPropertiesSnapshot.get(Collections.emptySet()).put(PROPERTY, "value");
+    }
+}
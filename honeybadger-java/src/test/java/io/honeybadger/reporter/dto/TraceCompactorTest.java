@@ -0,0 +1,106 @@
+package io.honeybadger.reporter.dto;
+
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TraceCompactorTest {
+    private static final StackTraceElement A = frame("a");
+    private static final StackTraceElement B = frame("b");
+    private static final StackTraceElement C = frame("c");
+    private static final StackTraceElement D = frame("d");
+
+    @Test
+    public void tracesWithNothingToRemoveAreReturnedAsIs() {
+        StackTraceElement[] trace = {A, B, B, C};
+
+        assertSame(trace, TraceCompactor.compact(config(0), trace, null));
+        assertSame(trace, TraceCompactor.compact(config(0), trace, new StackTraceElement[] {D}));
+    }
+
+    @Test
+    public void framesSharedWithTheEnclosingTraceAreOmitted() {
+        StackTraceElement[] compacted = TraceCompactor.compact(config(0),
+                new StackTraceElement[] {A, C, D}, new StackTraceElement[] {B, C, D});
+
+        assertArrayEquals(new StackTraceElement[] {A,
+                marker("... 2 frames in common with the enclosing trace omitted")}, compacted);
+    }
+
+    @Test
+    public void repeatedCyclesAreCollapsed() {
+        StackTraceElement[] compacted = TraceCompactor.compact(config(0),
+                new StackTraceElement[] {A, B, C, B, C, B, C, B, D}, null);
+
+        assertArrayEquals(new StackTraceElement[] {A, B, C,
+                marker("... previous 2 frames repeated 2 more times"), B, D}, compacted);
+    }
+
+    @Test
+    public void recursionIsCollapsedToOneFrame() {
+        StackTraceElement[] trace = new StackTraceElement[1024];
+        Arrays.fill(trace, A);
+
+        assertArrayEquals(new StackTraceElement[] {A,
+                marker("... previous 1 frame repeated 1023 more times")},
+                TraceCompactor.compact(config(0), trace, null));
+    }
+
+    @Test
+    public void tracesAreCutOffAtTheFrameLimit() {
+        StackTraceElement[] compacted = TraceCompactor.compact(config(2),
+                new StackTraceElement[] {A, B, C, D}, null);
+
+        assertArrayEquals(new StackTraceElement[] {A, B, marker("... 2 more")}, compacted);
+    }
+
+    @Test
+    public void commonFramesAreMarkedInTracesCutOffAtTheFrameLimit() {
+        StackTraceElement[] compacted = TraceCompactor.compact(config(1),
+                new StackTraceElement[] {A, B, C, D}, new StackTraceElement[] {C, D});
+
+        assertArrayEquals(new StackTraceElement[] {A, marker("... 1 more"),
+                marker("... 2 frames in common with the enclosing trace omitted")}, compacted);
+    }
+
+    @Test
+    public void negativeFrameLimitDoesNotFailReporting() {
+        StackTraceElement[] trace = {A, B};
+
+        assertSame(trace, TraceCompactor.compact(config(-1), trace, null));
+    }
+
+    @Test
+    public void causesOmitFramesSharedWithTheirEffect() {
+        RuntimeException cause = new RuntimeException("cause");
+        cause.setStackTrace(new StackTraceElement[] {A, C, D});
+        RuntimeException error = new RuntimeException("error", cause);
+        error.setStackTrace(new StackTraceElement[] {B, C, D});
+
+        Causes causes = new Causes(config(0), error);
+        Backtrace backtrace = causes.getFirst().getBacktrace();
+
+        assertEquals(2, backtrace.size());
+        assertEquals("... 2 frames in common with the enclosing trace omitted",
+                backtrace.get(1).getMethod());
+        assertEquals("all", backtrace.get(1).getContext());
+    }
+
+    private static ConfigContext config(final int maxFrames) {
+        return new StandardConfigContext("api-key").setMaxBacktraceFrames(maxFrames);
+    }
+
+    private static StackTraceElement frame(final String method) {
+        return new StackTraceElement("io.honeybadger.example.Service", method, "Service.java", 1);
+    }
+
+    private static StackTraceElement marker(final String description) {
+        return new StackTraceElement(TraceCompactor.MARKER_CLASS, description, null, -1);
+    }
+}
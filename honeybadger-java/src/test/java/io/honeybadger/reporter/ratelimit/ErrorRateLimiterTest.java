@@ -0,0 +1,96 @@
+package io.honeybadger.reporter.ratelimit;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ErrorRateLimiterTest {
+    @Test
+    public void bucketAllowsBurstThenRefillsAtRate() {
+        TokenBucket bucket = new TokenBucket(10, 3);
+        long now = System.nanoTime();
+
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertFalse(bucket.tryAcquire(now));
+
+        // One token is added every 100ms
+        assertTrue(bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(100)));
+        assertFalse(bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    public void idleBucketDoesNotExceedCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 2);
+        long later = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+
+        assertTrue(bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later));
+        assertFalse(bucket.tryAcquire(later));
+    }
+
+    @Test
+    public void releasedTokensCanBeTakenAgain() {
+        TokenBucket bucket = new TokenBucket(10, 2);
+        long now = System.nanoTime();
+
+        assertTrue(bucket.tryAcquire(now));
+        bucket.release(now);
+        bucket.release(now);
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertFalse(bucket.tryAcquire(now));
+    }
+
+    @Test
+    public void limitsEachClassSeparately() {
+        ErrorRateLimiter limiter = new ErrorRateLimiter(0, 0, 1, 2);
+
+        assertTrue(limiter.tryAcquire(new IllegalStateException()));
+        assertTrue(limiter.tryAcquire(new IllegalStateException()));
+        assertFalse(limiter.tryAcquire(new IllegalStateException()));
+        assertTrue(limiter.tryAcquire(new IllegalArgumentException()));
+
+        assertEquals(1L, limiter.getClassDroppedCount());
+        assertEquals(1L, limiter.getDroppedCount());
+    }
+
+    @Test
+    public void limitsAllClassesGlobally() {
+        ErrorRateLimiter limiter = new ErrorRateLimiter(1, 2, 0, 0);
+
+        assertTrue(limiter.tryAcquire(new IllegalStateException()));
+        assertTrue(limiter.tryAcquire(new IllegalArgumentException()));
+        assertFalse(limiter.tryAcquire(new UnsupportedOperationException()));
+
+        assertEquals(1L, limiter.getGlobalDroppedCount());
+    }
+
+    @Test
+    public void errorsDroppedGloballyDoNotUseTheirClassBudget() {
+        ErrorRateLimiter limiter = new ErrorRateLimiter(1, 1, 1, 2);
+
+        assertTrue(limiter.tryAcquire(new IllegalStateException()));
+        assertFalse(limiter.tryAcquire(new IllegalStateException()));
+        assertFalse(limiter.tryAcquire(new IllegalStateException()));
+
+        assertEquals(2L, limiter.getGlobalDroppedCount());
+        assertEquals(0L, limiter.getClassDroppedCount());
+    }
+
+    @Test
+    public void disabledLimiterAllowsEverything() {
+        ErrorRateLimiter limiter = new ErrorRateLimiter(0, 0, 0, 0);
+
+        assertFalse(limiter.isEnabled());
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(limiter.tryAcquire(new IllegalStateException()));
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package io.honeybadger.reporter.servlet;
 
 import com.google.common.collect.ImmutableMap;
+import io.honeybadger.reporter.AsyncHoneybadgerReporter;
+import io.honeybadger.reporter.FeedbackForm;
 import io.honeybadger.reporter.NoticeReporter;
 import io.honeybadger.reporter.UnitTestExpectedException;
 import io.honeybadger.reporter.config.MapConfigContext;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import javax.servlet.FilterChain;
@@ -15,10 +18,16 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Collections;
 import java.util.Map;
+import java.util.UUID;
 
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -114,4 +123,58 @@ public class HoneybadgerFilterTest {
 
         assertTrue("Expected exception not thrown", thrown);
     }
+
+    @Test
+    public void asyncReportingRendersTheErrorPageWithALocalId() throws Exception {
+        AsyncHoneybadgerReporter reporter = mock(AsyncHoneybadgerReporter.class);
+        when(reporter.reportErrorAsync(any(), any(), any(), any(), any(UUID.class)))
+                .thenReturn(true);
+        HoneybadgerFilter filter = instance(reporter, true);
+        FeedbackForm feedbackForm = mock(FeedbackForm.class);
+        filter.setFeedbackForm(feedbackForm);
+
+        FilterChain chain = mock(FilterChain.class);
+        Exception exception = new UnitTestExpectedException("Servlet Filter Exception");
+        Mockito.doThrow(exception)
+                .when(chain).doFilter(any(ServletRequest.class),
+                                      any(ServletResponse.class));
+
+        ServletRequest request = mock(HttpServletRequest.class);
+        ServletResponse response = mock(HttpServletResponse.class);
+        when(response.getWriter()).thenReturn(new PrintWriter(System.out));
+
+        filter.doFilter(request, response, chain);
+
+        ArgumentCaptor<UUID> token = ArgumentCaptor.forClass(UUID.class);
+        verify(reporter, times(1)).reportErrorAsync(eq(exception), eq(request),
+                isNull(), eq(Collections.emptySet()), token.capture());
+        assertNotNull(token.getValue());
+        verify(feedbackForm, times(1)).renderHtml(eq(token.getValue()), any(),
+                any(Writer.class), any());
+    }
+
+    @Test
+    public void asyncReportingRendersNoIdForErrorsThatAreNotQueued() throws Exception {
+        AsyncHoneybadgerReporter reporter = mock(AsyncHoneybadgerReporter.class);
+        when(reporter.reportErrorAsync(any(), any(), any(), any(), any(UUID.class)))
+                .thenReturn(false);
+        HoneybadgerFilter filter = instance(reporter, true);
+        FeedbackForm feedbackForm = mock(FeedbackForm.class);
+        filter.setFeedbackForm(feedbackForm);
+
+        FilterChain chain = mock(FilterChain.class);
+        Exception exception = new UnitTestExpectedException("Servlet Filter Exception");
+        Mockito.doThrow(exception)
+                .when(chain).doFilter(any(ServletRequest.class),
+                                      any(ServletResponse.class));
+
+        ServletRequest request = mock(HttpServletRequest.class);
+        ServletResponse response = mock(HttpServletResponse.class);
+        when(response.getWriter()).thenReturn(new PrintWriter(System.out));
+
+        filter.doFilter(request, response, chain);
+
+        verify(feedbackForm, times(1)).renderHtml(isNull(), any(),
+                any(Writer.class), any());
+    }
 }
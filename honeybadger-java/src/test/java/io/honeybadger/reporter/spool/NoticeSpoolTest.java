@@ -0,0 +1,208 @@
+package io.honeybadger.reporter.spool;
+
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class NoticeSpoolTest {
+    private static final int SEGMENT_SIZE = 128;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replaysNoticesOldestFirst() throws Exception {
+        try (NoticeSpool spool = new NoticeSpool(folder.getRoot(), SEGMENT_SIZE, 4096,
+                SpoolEvictionPolicy.DROP_OLDEST)) {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(spool.append(bytes("notice-" + i)));
+            }
+
+            List<String> delivered = new ArrayList<>();
+            assertEquals(10, spool.replay(notice -> delivered.add(string(notice))));
+
+            assertEquals("notice-0", delivered.get(0));
+            assertEquals("notice-9", delivered.get(9));
+            assertEquals(0, spool.getPendingCount());
+        }
+    }
+
+    @Test
+    public void stopsReplayingWhenDeliveryFails() throws Exception {
+        try (NoticeSpool spool = new NoticeSpool(folder.getRoot(), SEGMENT_SIZE, 4096,
+                SpoolEvictionPolicy.DROP_OLDEST)) {
+            spool.append(bytes("first"));
+            spool.append(bytes("second"));
+
+            assertEquals(0, spool.replay(notice -> false));
+            assertEquals(2, spool.getPendingCount());
+
+            List<String> delivered = new ArrayList<>();
+            spool.replay(notice -> delivered.add(string(notice)));
+            assertEquals(Arrays.asList("first", "second"), delivered);
+        }
+    }
+
+    @Test
+    public void replayPassesToTheNextSenderWhenOneStops() throws Exception {
+        try (NoticeSpool spool = new NoticeSpool(folder.getRoot(), SEGMENT_SIZE, 4096,
+                SpoolEvictionPolicy.DROP_OLDEST)) {
+            List<String> first = new CopyOnWriteArrayList<>();
+            List<String> second = new CopyOnWriteArrayList<>();
+            SpoolSender firstSender = notice -> first.add(string(notice));
+            SpoolSender secondSender = notice -> second.add(string(notice));
+
+            spool.startReplaying(firstSender);
+            spool.startReplaying(secondSender);
+            spool.stopReplaying(firstSender);
+            spool.append(bytes("notice"));
+            spool.requestReplay();
+
+            for (int i = 0; i < 100 && second.isEmpty(); i++) {
+                Thread.sleep(100);
+            }
+
+            assertEquals(Arrays.asList("notice"), second);
+            assertTrue(first.isEmpty());
+        }
+    }
+
+    @Test
+    public void reportersWithTheSameSettingsShareASpool() throws Exception {
+        try (NoticeSpool spool = NoticeSpool.forConfig(spoolConfig("api-key"))) {
+            assertSame(spool, NoticeSpool.forConfig(spoolConfig("api-key")));
+        }
+    }
+
+    @Test
+    public void spoolsAreNotSharedWithOtherProjects() throws Exception {
+        NoticeSpool spool = NoticeSpool.forConfig(spoolConfig("api-key"));
+
+        try {
+            NoticeSpool.forConfig(spoolConfig("other-api-key"));
+            fail("A spool was shared by reporters with different API keys");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("honeybadger.spool_directory"));
+        }
+
+        try {
+            NoticeSpool.forConfig(spoolConfig("api-key").setSpoolMaxSize(8192L));
+            fail("A spool was shared by reporters with different spool settings");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("honeybadger.spool_directory"));
+        } finally {
+            spool.close();
+        }
+    }
+
+    @Test
+    public void pendingNoticesSurviveRestart() throws Exception {
+        try (NoticeSpool spool = new NoticeSpool(folder.getRoot(), SEGMENT_SIZE, 4096,
+                SpoolEvictionPolicy.DROP_OLDEST)) {
+            spool.append(bytes("delivered"));
+            spool.replay(notice -> true);
+            spool.append(bytes("pending-1"));
+            spool.append(bytes("pending-2"));
+        }
+
+        try (NoticeSpool spool = new NoticeSpool(folder.getRoot(), SEGMENT_SIZE, 4096,
+                SpoolEvictionPolicy.DROP_OLDEST)) {
+            assertEquals(2, spool.getPendingCount());
+            spool.append(bytes("pending-3"));
+
+            List<String> delivered = new ArrayList<>();
+            spool.replay(notice -> delivered.add(string(notice)));
+            assertEquals(Arrays.asList("pending-1", "pending-2", "pending-3"), delivered);
+        }
+    }
+
+    @Test
+    public void ignoresTornRecordAfterCrash() throws Exception {
+        try (NoticeSpool spool = new NoticeSpool(folder.getRoot(), SEGMENT_SIZE, 4096,
+                SpoolEvictionPolicy.DROP_OLDEST)) {
+            spool.append(bytes("intact"));
+            spool.append(bytes("torn"));
+        }
+
+        File segment = folder.getRoot().listFiles()[0];
+        int tornPayloadOffset = SpoolSegment.HEADER_SIZE + SpoolSegment.RECORD_HEADER_SIZE * 2
+                + "intact".length();
+
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.seek(tornPayloadOffset);
+            file.write('X');
+        }
+
+        try (NoticeSpool spool = new NoticeSpool(folder.getRoot(), SEGMENT_SIZE, 4096,
+                SpoolEvictionPolicy.DROP_OLDEST)) {
+            List<String> delivered = new ArrayList<>();
+            spool.replay(notice -> delivered.add(string(notice)));
+            assertEquals(Arrays.asList("intact"), delivered);
+        }
+    }
+
+    @Test
+    public void dropsOldestSegmentWhenFull() throws Exception {
+        try (NoticeSpool spool = new NoticeSpool(folder.getRoot(), SEGMENT_SIZE, SEGMENT_SIZE * 2,
+                SpoolEvictionPolicy.DROP_OLDEST)) {
+            for (int i = 0; i < 30; i++) {
+                assertTrue(spool.append(bytes(String.format("notice-%02d", i))));
+            }
+
+            assertTrue(spool.getDroppedCount() > 0);
+
+            List<String> delivered = new ArrayList<>();
+            spool.replay(notice -> delivered.add(string(notice)));
+            assertEquals("notice-29", delivered.get(delivered.size() - 1));
+            assertEquals(30, delivered.size() + spool.getDroppedCount());
+        }
+    }
+
+    @Test
+    public void dropsNewestNoticesWhenFull() throws Exception {
+        try (NoticeSpool spool = new NoticeSpool(folder.getRoot(), SEGMENT_SIZE, SEGMENT_SIZE,
+                SpoolEvictionPolicy.DROP_NEWEST)) {
+            boolean dropped = false;
+
+            for (int i = 0; i < 30; i++) {
+                dropped |= !spool.append(bytes(String.format("notice-%02d", i)));
+            }
+
+            assertTrue(dropped);
+
+            List<String> delivered = new ArrayList<>();
+            spool.replay(notice -> delivered.add(string(notice)));
+            assertEquals("notice-00", delivered.get(0));
+            assertFalse(delivered.contains("notice-29"));
+        }
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(final byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private StandardConfigContext spoolConfig(final String apiKey) {
+        StandardConfigContext config = new StandardConfigContext(apiKey);
+        config.setSpoolDirectory(folder.getRoot().getPath());
+        return config;
+    }
+}
@@ -0,0 +1,59 @@
+package io.honeybadger.reporter.transport;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NoticeBufferTest {
+    @Test
+    public void entityIsRepeatableAndBackedByBuffer() throws Exception {
+        NoticeBuffer buffer = NoticeBuffer.acquire();
+
+        try {
+            buffer.write("{\"error\":\"ünïcödé\"}".getBytes(StandardCharsets.UTF_8));
+            HttpEntity entity = buffer.toEntity();
+
+            assertTrue(entity.isRepeatable());
+            assertEquals(buffer.size(), entity.getContentLength());
+            assertEquals("application/json; charset=UTF-8", entity.getContentType().getValue());
+            assertEquals("{\"error\":\"ünïcödé\"}", EntityUtils.toString(entity, StandardCharsets.UTF_8));
+            assertEquals("{\"error\":\"ünïcödé\"}", EntityUtils.toString(entity, StandardCharsets.UTF_8));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void releasedBuffersAreReusedEmpty() {
+        NoticeBuffer buffer = NoticeBuffer.acquire();
+        buffer.write(42);
+        buffer.release();
+
+        assertEquals(0, buffer.size());
+
+        NoticeBuffer reused = NoticeBuffer.acquire();
+
+        try {
+            assertEquals(0, reused.size());
+        } finally {
+            reused.release();
+        }
+    }
+
+    @Test
+    public void oversizedBuffersAreNotPooled() {
+        NoticeBuffer buffer = NoticeBuffer.acquire();
+        int pooled = NoticeBuffer.pooledCount();
+
+        buffer.write(new byte[NoticeBuffer.MAX_POOLED_CAPACITY + 1], 0,
+                NoticeBuffer.MAX_POOLED_CAPACITY + 1);
+        buffer.release();
+
+        assertEquals(pooled, NoticeBuffer.pooledCount());
+    }
+}
@@ -0,0 +1,153 @@
+package io.honeybadger.reporter.transport;
+
+import com.google.common.io.ByteStreams;
+import io.honeybadger.reporter.config.ConfigContext;
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.apache.http.HttpHost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class NoticeTransportTest {
+    @Test
+    public void reportersWithTheSameConfigShareATransport() {
+        ConfigContext config1 = new StandardConfigContext("shared-key");
+        ConfigContext config2 = new StandardConfigContext("shared-key");
+        ConfigContext config3 = new StandardConfigContext("other-key");
+
+        assertSame(NoticeTransport.forConfig(config1), NoticeTransport.forConfig(config2));
+        assertNotSame(NoticeTransport.forConfig(config1), NoticeTransport.forConfig(config3));
+    }
+
+    @Test
+    public void reportersWithDifferentTimeoutsDoNotShareATransport() {
+        ConfigContext config1 = new StandardConfigContext("timeout-key");
+        ConfigContext config2 = new StandardConfigContext("timeout-key").setSocketTimeout(1_000);
+
+        assertNotSame(NoticeTransport.forConfig(config1), NoticeTransport.forConfig(config2));
+    }
+
+    @Test
+    public void closesASharedTransportWhenTheLastReferenceIsReleased() throws Exception {
+        ConfigContext config = new StandardConfigContext("release-key");
+        NoticeTransport first = NoticeTransport.forConfig(config);
+        NoticeTransport second = NoticeTransport.forConfig(config);
+
+        first.release();
+        assertFalse(second.isClosed());
+
+        second.release();
+        assertTrue(second.isClosed());
+
+        NoticeTransport replacement = NoticeTransport.forConfig(config);
+        assertNotSame(first, replacement);
+        replacement.release();
+    }
+
+    @Test(expected = IOException.class)
+    public void refusesToSendOnceClosed() throws Exception {
+        NoticeTransport transport = new NoticeTransport(new StandardConfigContext("closed-key"));
+        transport.release();
+
+        transport.send(new ByteArrayEntity(new byte[10]));
+    }
+
+    @Test
+    public void pausesOutliveTheTransport() {
+        NoticeTransport throttled = NoticeTransport.forConfig(new StandardConfigContext("pause-key"));
+        throttled.pauseFor(60_000L);
+        throttled.release();
+
+        NoticeTransport replacement = NoticeTransport.forConfig(
+                new StandardConfigContext("pause-key").setSocketTimeout(1_000));
+
+        assertTrue(replacement.getPauseRemainingMillis() > 0);
+        assertFalse(new NoticeTransport(new StandardConfigContext("other-pause-key"))
+                .getPauseRemainingMillis() > 0);
+        replacement.release();
+    }
+
+    @Test
+    public void compressesOnlyNoticesOverThreshold() {
+        NoticeTransport disabled = new NoticeTransport(new StandardConfigContext("api-key"));
+        NoticeTransport enabled = new NoticeTransport(new StandardConfigContext("api-key")
+                .setCompressionLevel(6).setCompressionThreshold(10));
+
+        assertFalse(disabled.shouldCompress(new ByteArrayEntity(new byte[100])));
+        assertFalse(enabled.shouldCompress(new ByteArrayEntity(new byte[9])));
+        assertTrue(enabled.shouldCompress(new ByteArrayEntity(new byte[10])));
+    }
+
+    @Test
+    public void compressedNoticesDecompressToTheOriginalJson() throws Exception {
+        NoticeTransport transport = new NoticeTransport(new StandardConfigContext("api-key")
+                .setCompressionLevel(9));
+        StringBuilder json = new StringBuilder("[");
+
+        for (int i = 0; i < 100; i++) {
+            json.append("\"io.honeybadger.reporter.HoneybadgerReporter.sendNotice\",");
+        }
+
+        json.append("null]");
+        byte[] original = json.toString().getBytes(StandardCharsets.UTF_8);
+        NoticeBuffer compressed = NoticeBuffer.acquire();
+
+        try {
+            transport.compress(new ByteArrayEntity(original), compressed);
+            assertTrue(compressed.size() < original.length / 10);
+
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(
+                    compressed.array(), 0, compressed.size()))) {
+                assertArrayEquals(original, ByteStreams.toByteArray(in));
+            }
+        } finally {
+            compressed.release();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidCompressionLevel() {
+        new NoticeTransport(new StandardConfigContext("api-key").setCompressionLevel(10));
+    }
+
+    @Test
+    public void resolvesNoticesEndpoint() {
+        ConfigContext config = new StandardConfigContext("api-key")
+                .setHoneybadgerUrl(URI.create("https://example.com"));
+
+        assertEquals(URI.create("https://example.com/v1/notices"),
+                new NoticeTransport(config).getNoticesUri());
+    }
+
+    @Test
+    public void resolvesProxyFromConfig() {
+        ConfigContext config = new StandardConfigContext("api-key")
+                .setHttpProxyHost("proxy.example.com")
+                .setHttpProxyPort(8888);
+
+        assertEquals(new HttpHost("proxy.example.com", 8888), NoticeTransport.proxy(config));
+    }
+
+    @Test
+    public void noProxyWhenNotConfigured() {
+        ConfigContext config = new StandardConfigContext("api-key");
+
+        if (System.getProperty("http.proxyHost") == null) {
+            assertNull(NoticeTransport.proxy(config));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.honeybadger.reporter.transport;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.impl.DefaultHttpResponseFactory;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ResponseClassifierTest {
+    @Test
+    public void classifiesStatusCodes() {
+        assertEquals(ResponseClassification.SUCCESS, ResponseClassifier.classify(201));
+        assertEquals(ResponseClassification.RETRYABLE, ResponseClassifier.classify(500));
+        assertEquals(ResponseClassification.RETRYABLE, ResponseClassifier.classify(503));
+        assertEquals(ResponseClassification.RETRYABLE, ResponseClassifier.classify(408));
+        assertEquals(ResponseClassification.PERMANENT, ResponseClassifier.classify(401));
+        assertEquals(ResponseClassification.PERMANENT, ResponseClassifier.classify(403));
+        assertEquals(ResponseClassification.PERMANENT, ResponseClassifier.classify(422));
+        assertEquals(ResponseClassification.THROTTLED, ResponseClassifier.classify(429));
+    }
+
+    @Test
+    public void unavailableWithRetryAfterIsThrottled() {
+        assertEquals(ResponseClassification.THROTTLED,
+                ResponseClassifier.classify(response(503, "30")));
+        assertEquals(ResponseClassification.RETRYABLE,
+                ResponseClassifier.classify(response(503, null)));
+    }
+
+    @Test
+    public void parsesRetryAfterSeconds() {
+        assertEquals(30_000L, ResponseClassifier.pauseMillis(response(429, "30"), 0L));
+        assertEquals(ResponseClassifier.DEFAULT_PAUSE_MILLIS,
+                ResponseClassifier.pauseMillis(response(429, null), 0L));
+        assertEquals(ResponseClassifier.MAXIMUM_PAUSE_MILLIS,
+                ResponseClassifier.pauseMillis(response(429, "86400"), 0L));
+    }
+
+    @Test
+    public void parsesRetryAfterDate() {
+        long now = System.currentTimeMillis();
+        String date = DateUtils.formatDate(new Date(now + 90_000L));
+        long pause = ResponseClassifier.pauseMillis(response(429, date), now);
+
+        // HTTP dates only have a precision of seconds
+        assertTrue("Unexpected pause: " + pause, pause > 88_000L && pause <= 90_000L);
+    }
+
+    private static HttpResponse response(final int status, final String retryAfter) {
+        HttpResponse response = new DefaultHttpResponseFactory().newHttpResponse(
+                HttpVersion.HTTP_1_1, status, new BasicHttpContext());
+
+        if (retryAfter != null) {
+            response.addHeader("Retry-After", retryAfter);
+        }
+
+        return response;
+    }
+}
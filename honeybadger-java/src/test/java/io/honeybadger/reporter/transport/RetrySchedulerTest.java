@@ -0,0 +1,82 @@
+package io.honeybadger.reporter.transport;
+
+import io.honeybadger.reporter.config.StandardConfigContext;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RetrySchedulerTest {
+    @Test
+    public void backoffDoublesUntilMaximumDelay() {
+        RetryScheduler scheduler = new RetryScheduler(100, 1_000, 60_000);
+
+        assertEquals(100L, scheduler.backoffCeiling(0));
+        assertEquals(200L, scheduler.backoffCeiling(1));
+        assertEquals(800L, scheduler.backoffCeiling(3));
+        assertEquals(1_000L, scheduler.backoffCeiling(4));
+        assertEquals(1_000L, scheduler.backoffCeiling(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void delaysAreJitteredWithinBackoff() {
+        RetryScheduler scheduler = new RetryScheduler(100, 1_000, 60_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            long delay = scheduler.delayMillis(2);
+            assertTrue("Delay out of range: " + delay, delay >= 0 && delay <= 400);
+        }
+    }
+
+    @Test
+    public void retriesAreNotScheduledPastDeadline() {
+        RetryScheduler scheduler = new RetryScheduler(100, 1_000, 5_000);
+        long now = System.nanoTime();
+
+        assertTrue(scheduler.isBeforeDeadline(now, 1_000));
+        assertFalse(scheduler.isBeforeDeadline(now - TimeUnit.SECONDS.toNanos(5), 1_000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMaximumDelayLessThanInitialDelay() {
+        new RetryScheduler(1_000, 100, 5_000);
+    }
+
+    @Test
+    public void refusesRetriesOverThePendingLimit() throws Exception {
+        RetryScheduler scheduler = new RetryScheduler(0, 0, 5_000, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        assertTrue(scheduler.schedule(() -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 60_000));
+        assertFalse(scheduler.schedule(ran::countDown, 0));
+        assertEquals(1, scheduler.getPendingRetries());
+
+        RetryScheduler other = new RetryScheduler(0, 0, 5_000, 1);
+        assertTrue(other.schedule(ran::countDown, 0));
+        assertTrue(ran.await(10, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    public void reconfiguredSchedulersShareThePendingLimit() {
+        RetryScheduler scheduler = new RetryScheduler(0, 0, 5_000, 1);
+        RetryScheduler reconfigured = scheduler.reconfigure(new StandardConfigContext("api-key")
+                .setDeliveryDeadline(1_000));
+
+        assertEquals(1_000, reconfigured.getDeadlineMillis());
+        assertTrue(scheduler.schedule(() -> { }, 60_000));
+        assertFalse(reconfigured.schedule(() -> { }, 0));
+        assertEquals(1, reconfigured.getPendingRetries());
+    }
+}